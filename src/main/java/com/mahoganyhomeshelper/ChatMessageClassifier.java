@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import lombok.Getter;
+import net.runelite.api.ChatMessageType;
+
+/**
+ * Classifies the chat messages the plugin reacts to in a single pass, without
+ * regular expressions or intermediate strings.
+ * <p>
+ * A cheap type and length check rejects almost every message before any
+ * scanning. Contract messages are recognised by the first
+ * {@code see <col=ff0000>NPC</col>} that is followed on the same line by a
+ * {@code <col=ff0000>City</col>}, matching case-insensitively. Plank sack
+ * messages are matched on the text with tags removed, as
+ * {@code Text.removeTags} would return it, which is kept in a reused buffer.
+ * <p>
+ * The details of the last classified message are kept in this instance, so it
+ * must only be used from one thread.
+ */
+final class ChatMessageClassifier {
+	enum Result {
+		NONE,
+		/** A contract was assigned; see {@link #getCity()} and {@link #getNpc()}. */
+		CONTRACT,
+		/** The plank sack was checked; see {@link #getCounts()}. */
+		SACK_CONTENTS,
+		/** Nothing could be added to the plank sack. */
+		SACK_NOTHING_TO_ADD,
+		SACK_FULL,
+		SACK_EMPTY
+	}
+
+	private static final String CONTRACT_NPC_START = "see <col=ff0000>";
+	private static final String CONTRACT_CITY_START = "<col=ff0000>";
+	private static final String COLOR_END = "</col>";
+	/** City names accepted in a contract, in the order they are tried. */
+	private static final String[] CITY_NAMES = {"varrock", "falador", "ardougne market", "ardougne", "hosidius"};
+	private static final City[] CITY_VALUES = {City.VARROCK, City.FALADOR, City.ARDOUGNE, City.ARDOUGNE,
+			City.HOSIDIUS};
+	/** Length of the shortest possible contract message. */
+	private static final int MIN_CONTRACT_LENGTH = CONTRACT_NPC_START.length() + 1 + COLOR_END.length()
+			+ CONTRACT_CITY_START.length() + "varrock".length() + COLOR_END.length();
+
+	private static final String SACK_CONTENTS = "Basic&#160;planks:";
+	private static final String SACK_COUNT_SEPARATOR = ":&#160;";
+	private static final String SACK_NOTHING_TO_ADD = "You haven't got any planks that can go in the sack.";
+	private static final String SACK_FULL = "Your sack is full.";
+	private static final String SACK_EMPTY = "Your sack is empty.";
+	private static final int MIN_SACK_LENGTH = SACK_FULL.length();
+
+	/** The city of the last contract message. */
+	@Getter
+	private City city;
+	/** The NPC of the last contract message, or null if the name is not known. */
+	@Getter
+	private ContractNpc npc;
+	/**
+	 * The counts of the last sack check, in {@link PlankType} order. The array
+	 * is reused and only valid until the next call to
+	 * {@link #classify(ChatMessageType, String)}; copy it to keep the counts.
+	 */
+	@Getter
+	private final int[] counts = new int[PlankType.values().length];
+
+	/** The last sack message with tags removed. */
+	private char[] text = new char[64];
+	private int textLength;
+
+	/**
+	 * @param type    The chat message type.
+	 * @param message The message, with tags.
+	 * @return What the message is.
+	 */
+	Result classify(ChatMessageType type, String message) {
+		if (type != ChatMessageType.GAMEMESSAGE && type != ChatMessageType.DIALOG) {
+			return Result.NONE;
+		}
+		if (message.length() >= MIN_CONTRACT_LENGTH && scanContract(message)) {
+			return Result.CONTRACT;
+		}
+		if (type != ChatMessageType.GAMEMESSAGE || message.length() < MIN_SACK_LENGTH) {
+			return Result.NONE;
+		}
+		char first = message.charAt(0);
+		if (first != 'B' && first != 'Y' && first != '<') {
+			return Result.NONE;
+		}
+
+		removeTags(message);
+		if (startsWith(SACK_CONTENTS)) {
+			return scanCounts() ? Result.SACK_CONTENTS : Result.NONE;
+		} else if (equalsText(SACK_NOTHING_TO_ADD)) {
+			return Result.SACK_NOTHING_TO_ADD;
+		} else if (equalsText(SACK_FULL)) {
+			return Result.SACK_FULL;
+		} else if (equalsText(SACK_EMPTY)) {
+			return Result.SACK_EMPTY;
+		}
+		return Result.NONE;
+	}
+
+	private boolean scanContract(String message) {
+		int length = message.length();
+		for (int see = indexOfIgnoreCase(message, CONTRACT_NPC_START, 0); see != -1;
+				see = indexOfIgnoreCase(message, CONTRACT_NPC_START, see + 1)) {
+			int nameStart = see + CONTRACT_NPC_START.length();
+			int nameEnd = message.indexOf('<', nameStart);
+			if (nameEnd <= nameStart || !regionMatchesIgnoreCase(message, nameEnd, COLOR_END)) {
+				continue;
+			}
+
+			City contractCity = null;
+			for (int i = nameEnd + COLOR_END.length(); i < length && contractCity == null; i++) {
+				char c = message.charAt(i);
+				if (isLineTerminator(c)) {
+					break;
+				}
+				if (c == '<' && regionMatchesIgnoreCase(message, i, CONTRACT_CITY_START)) {
+					contractCity = matchCity(message, i + CONTRACT_CITY_START.length());
+				}
+			}
+			if (contractCity != null) {
+				city = contractCity;
+				npc = matchNpc(contractCity, message, nameStart, nameEnd);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static City matchCity(String message, int start) {
+		for (int i = 0; i < CITY_NAMES.length; i++) {
+			if (regionMatchesIgnoreCase(message, start, CITY_NAMES[i])
+					&& regionMatchesIgnoreCase(message, start + CITY_NAMES[i].length(), COLOR_END)) {
+				return CITY_VALUES[i];
+			}
+		}
+		return null;
+	}
+
+	private static ContractNpc matchNpc(City city, String message, int start, int end) {
+		// Trailing whitespace before </col> is not part of the name, but the name keeps at least one character
+		while (end - 1 > start && isWhitespace(message.charAt(end - 1))) {
+			end--;
+		}
+		// As String.trim
+		while (start < end && message.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && message.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		for (ContractNpc contractNpc : ContractNpc.values()) {
+			String name = contractNpc.getDisplayName();
+			if (contractNpc.getCity() == city && name.length() == end - start
+					&& message.regionMatches(true, start, name, 0, name.length())) {
+				return contractNpc;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Copies the message into {@link #text} without tags, keeping the
+	 * {@code <lt>} and {@code <gt>} escapes as {@code Text.removeTags} does.
+	 */
+	private void removeTags(String message) {
+		int length = message.length();
+		if (text.length < length) {
+			text = new char[Math.max(length, text.length * 2)];
+		}
+		int lastClose = message.lastIndexOf('>');
+		int out = 0;
+		for (int i = 0; i < length; i++) {
+			char c = message.charAt(i);
+			if (c == '<' && i < lastClose) {
+				int close = message.indexOf('>', i);
+				if (close - i == 3 && (message.startsWith("<lt>", i) || message.startsWith("<gt>", i))) {
+					message.getChars(i, close + 1, text, out);
+					out += 4;
+				}
+				i = close;
+				continue;
+			}
+			text[out++] = c;
+		}
+		textLength = out;
+	}
+
+	/**
+	 * Reads the four comma separated {@code name:&#160;count} entries of a sack
+	 * check.
+	 */
+	private boolean scanCounts() {
+		int partStart = 0;
+		for (int i = 0; i < counts.length; i++) {
+			if (partStart > textLength) {
+				return false;
+			}
+			int partEnd = indexOf(',', partStart);
+			int valueStart = indexOf(SACK_COUNT_SEPARATOR, partStart, partEnd);
+			if (valueStart == -1) {
+				return false;
+			}
+			valueStart += SACK_COUNT_SEPARATOR.length();
+			int valueEnd = indexOf(SACK_COUNT_SEPARATOR, valueStart, partEnd);
+			if (!parseCount(i, valueStart, valueEnd == -1 ? partEnd : valueEnd)) {
+				return false;
+			}
+			partStart = partEnd + 1;
+		}
+		return true;
+	}
+
+	/**
+	 * Parses a count as {@code Integer.parseInt} would after {@code trim}.
+	 */
+	private boolean parseCount(int index, int start, int end) {
+		while (start < end && text[start] <= ' ') {
+			start++;
+		}
+		while (end > start && text[end - 1] <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return false;
+		}
+
+		boolean negative = text[start] == '-';
+		if (negative || text[start] == '+') {
+			start++;
+			if (start == end) {
+				return false;
+			}
+		}
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(text[i], 10);
+			if (digit < 0) {
+				return false;
+			}
+			value = value * 10 + digit;
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return false;
+			}
+		}
+		if (negative) {
+			value = -value;
+		}
+		if (value > Integer.MAX_VALUE) {
+			return false;
+		}
+		counts[index] = (int) value;
+		return true;
+	}
+
+	private boolean startsWith(String prefix) {
+		return textLength >= prefix.length() && regionEquals(0, prefix);
+	}
+
+	private boolean equalsText(String value) {
+		return textLength == value.length() && regionEquals(0, value);
+	}
+
+	private boolean regionEquals(int offset, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (text[offset + i] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** @return The index of the character, or the end of the text. */
+	private int indexOf(char c, int from) {
+		for (int i = from; i < textLength; i++) {
+			if (text[i] == c) {
+				return i;
+			}
+		}
+		return textLength;
+	}
+
+	/** @return The index of the value within [from, to), or -1. */
+	private int indexOf(String value, int from, int to) {
+		for (int i = from; i + value.length() <= to; i++) {
+			if (regionEquals(i, value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOfIgnoreCase(String message, String value, int from) {
+		for (int i = from; i + value.length() <= message.length(); i++) {
+			if (regionMatchesIgnoreCase(message, i, value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * ASCII case-insensitive comparison, as a pattern compiled with
+	 * {@code CASE_INSENSITIVE} matches.
+	 *
+	 * @param value Lowercase text.
+	 */
+	private static boolean regionMatchesIgnoreCase(String message, int offset, String value) {
+		if (offset + value.length() > message.length()) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = message.charAt(offset + i);
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			if (c != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** As {@code \s} in a pattern. */
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+	}
+
+	/** The characters {@code .} does not match in a pattern. */
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+}
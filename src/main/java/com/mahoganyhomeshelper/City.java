@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The cities Mahogany Homes contracts are given in.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum City {
+    ARDOUGNE("Ardougne", MarkerSlot.ARDOUGNE),
+    FALADOR("Falador", MarkerSlot.FALADOR),
+    HOSIDIUS("Hosidius", MarkerSlot.HOSIDIUS),
+    VARROCK("Varrock", MarkerSlot.VARROCK);
+
+    private static final String MARKET_SUFFIX = " market";
+
+    /** The city name as shown in contract messages. */
+    private final String displayName;
+    /** The marker shown while a contract in the city is active. */
+    private final MarkerSlot markerSlot;
+
+    /**
+     * Resolves a city name from a contract message, e.g. "Ardougne market".
+     *
+     * @param name The city name, in any case.
+     * @return The city, or null if the name is not a contract city.
+     */
+    public static City fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (trimmed.regionMatches(true, trimmed.length() - MARKET_SUFFIX.length(), MARKET_SUFFIX, 0,
+                MARKET_SUFFIX.length())) {
+            trimmed = trimmed.substring(0, trimmed.length() - MARKET_SUFFIX.length());
+        }
+        for (City city : values()) {
+            if (city.displayName.equalsIgnoreCase(trimmed)) {
+                return city;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import lombok.Value;
+
+/**
+ * Immutable copy of the plugin configuration. A new snapshot is published
+ * whenever the config changes, so event handlers and the panel read plain
+ * fields instead of going through the config proxy.
+ */
+@Value
+class ConfigSnapshot {
+	/** The selected plank type. */
+	PlankType plankType;
+	/** Whether minimums follow the current contract. */
+	boolean dynamicMinimums;
+	/** The static minimum plank threshold. */
+	int minPlanks;
+	/** The static minimum steel bar threshold. */
+	int minSteelBars;
+	/** Whether markers are drawn by the plugin's own overlay. */
+	boolean nativeOverlay;
+	/** Whether live-applied marker changes are stored at logout. */
+	boolean quietMarkerUpdates;
+	/** The marker bound to each slot. */
+	MarkerBindings markerBindings;
+
+	/**
+	 * Reads every config value once.
+	 *
+	 * @param config         The config proxy.
+	 * @param markerBindings The already resolved marker bindings.
+	 * @return A new snapshot.
+	 */
+	static ConfigSnapshot load(MahoganyHomesHelperConfig config, MarkerBindings markerBindings) {
+		return new ConfigSnapshot(
+				config.plankType(),
+				config.dynamicMinimums(),
+				config.minPlanks(),
+				config.minSteelBars(),
+				config.nativeOverlay(),
+				config.quietMarkerUpdates(),
+				markerBindings);
+	}
+}
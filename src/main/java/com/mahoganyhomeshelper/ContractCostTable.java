@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+/**
+ * Costs of the furniture hotspots of a single contract, built once when the
+ * contract is assigned. Hotspot object ids are kept in a small open-addressing
+ * table, so finding a hotspot is a hash and usually a single probe.
+ * <p>
+ * Besides its packed cost, each hotspot has a built flag. The flag is set once
+ * the hotspot's materials have been deducted, so repeated clicks on the same
+ * hotspot are not charged twice.
+ */
+final class ContractCostTable {
+	/** Table for no contract; every lookup misses. */
+	static final ContractCostTable EMPTY = new ContractCostTable(new int[0]);
+
+	private final int[] keys;
+	private final int[] costs;
+	private final boolean[] built;
+	private final int mask;
+
+	private ContractCostTable(int[] gameObjectIds) {
+		int capacity = 8;
+		while (capacity < gameObjectIds.length * 2) {
+			capacity <<= 1;
+		}
+		keys = new int[capacity];
+		costs = new int[capacity];
+		built = new boolean[capacity];
+		mask = capacity - 1;
+		for (int id : gameObjectIds) {
+			int slot = hash(id) & mask;
+			while (keys[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = id;
+			costs[slot] = FurnitureCostData.getPackedCost(id);
+		}
+	}
+
+	/**
+	 * Builds the table for a contract.
+	 *
+	 * @param npc The contract NPC, or null if unknown.
+	 * @return The table, or {@link #EMPTY} if the NPC is unknown.
+	 */
+	static ContractCostTable build(ContractNpc npc) {
+		if (npc == null) {
+			return EMPTY;
+		}
+		return new ContractCostTable(FurnitureCostData.getGameObjectIds(npc));
+	}
+
+	/**
+	 * Builds the table for a contract again with the current furniture data,
+	 * keeping the built flags of hotspots that are in both tables.
+	 *
+	 * @param npc      The contract NPC, or null if unknown.
+	 * @param previous The table being replaced.
+	 * @return The new table.
+	 */
+	static ContractCostTable rebuild(ContractNpc npc, ContractCostTable previous) {
+		ContractCostTable table = build(npc);
+		for (int slot = 0; slot < previous.keys.length; slot++) {
+			if (previous.built[slot]) {
+				int newSlot = table.find(previous.keys[slot]);
+				if (newSlot != -1) {
+					table.built[newSlot] = true;
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * @param gameObjectId A GameObject ID.
+	 * @return The slot of the hotspot, or -1 if it is not part of the contract.
+	 */
+	int find(int gameObjectId) {
+		if (gameObjectId <= 0 || keys.length == 0) {
+			return -1;
+		}
+		int slot = hash(gameObjectId) & mask;
+		while (keys[slot] != 0) {
+			if (keys[slot] == gameObjectId) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param slot A slot from {@link #find(int)}.
+	 * @return The packed cost, readable with {@link FurnitureCostData#getPlankCost(int)}
+	 *         and {@link FurnitureCostData#getSteelBarCost(int)}.
+	 */
+	int getCost(int slot) {
+		return costs[slot];
+	}
+
+	/**
+	 * @param slot A slot from {@link #find(int)}.
+	 * @return true if the hotspot's materials have been deducted.
+	 */
+	boolean isBuilt(int slot) {
+		return built[slot];
+	}
+
+	/**
+	 * @param slot A slot from {@link #find(int)}.
+	 */
+	void markBuilt(int slot) {
+		built[slot] = true;
+	}
+
+	private static int hash(int id) {
+		int h = id * 0x9e3779b9;
+		return h ^ (h >>> 16);
+	}
+}
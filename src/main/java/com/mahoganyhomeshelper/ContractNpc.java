@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The NPCs that give out Mahogany Homes contracts, with the city of their
+ * house. Per-NPC tables are indexed by ordinal.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ContractNpc {
+    JESS(City.ARDOUGNE, "Jess"),
+    NOELLA(City.ARDOUGNE, "Noella"),
+    ROSS(City.ARDOUGNE, "Ross"),
+    LARRY(City.FALADOR, "Larry"),
+    NORMAN(City.FALADOR, "Norman"),
+    TAU(City.FALADOR, "Tau"),
+    BARBARA(City.HOSIDIUS, "Barbara"),
+    LEELA(City.HOSIDIUS, "Leela"),
+    MARIAH(City.HOSIDIUS, "Mariah"),
+    BOB(City.VARROCK, "Bob"),
+    JEFF(City.VARROCK, "Jeff"),
+    SARAH(City.VARROCK, "Sarah");
+
+    /** The city of the NPC's house. */
+    private final City city;
+    /** The NPC name as shown in contract messages. */
+    private final String displayName;
+
+    /**
+     * Resolves an NPC name from a contract message.
+     *
+     * @param city The contract city.
+     * @param name The NPC name, in any case.
+     * @return The NPC, or null if the city has no such contract NPC.
+     */
+    public static ContractNpc find(City city, String name) {
+        if (city == null || name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        for (ContractNpc npc : values()) {
+            if (npc.city == city && npc.displayName.equalsIgnoreCase(trimmed)) {
+                return npc;
+            }
+        }
+        return null;
+    }
+}
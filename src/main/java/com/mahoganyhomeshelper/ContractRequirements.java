@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.Arrays;
+
+/**
+ * The most planks and steel bars a contract can need, per contract NPC and
+ * plank tier, used as dynamic minimums.
+ * <p>
+ * The values are derived from {@link FurnitureCostData}: an expert contract can
+ * ask for work on every hotspot in the NPC's house, each at most once, so its
+ * maximum is the sum of the hotspot costs. Some furniture is only asked for
+ * from a higher tier on, as recorded with its cost, so a tier's maximum only
+ * sums the hotspots whose minimum tier it has reached.
+ * <p>
+ * The results are computed on first use and memoized in a flat int array
+ * indexed by {@link ContractNpc} ordinal and {@link PlankType} ordinal (the NPC
+ * implies the city). Each entry holds the planks in bits 8-15 and the steel
+ * bars in bits 0-7. The table is derived again when the furniture data is
+ * replaced by an override.
+ */
+final class ContractRequirements {
+	private static final int TIERS = PlankType.values().length;
+
+	private ContractRequirements() {
+	}
+
+	/** The memoized table and the furniture data revision it was derived from. */
+	private static final class Table {
+		private final int revision;
+		private final int[] values;
+
+		private Table(int revision, int[] values) {
+			this.revision = revision;
+			this.values = values;
+		}
+	}
+
+	private static volatile Table table;
+
+	private static int[] values() {
+		int revision = FurnitureCostData.getRevision();
+		Table current = table;
+		if (current == null || current.revision != revision) {
+			current = new Table(revision, derive());
+			table = current;
+		}
+		return current.values;
+	}
+
+	private static int[] derive() {
+		int[] values = new int[ContractNpc.values().length * TIERS];
+		int[] planks = new int[TIERS];
+		int[] steelBars = new int[TIERS];
+		for (ContractNpc npc : ContractNpc.values()) {
+			Arrays.fill(planks, 0);
+			Arrays.fill(steelBars, 0);
+			for (int id : FurnitureCostData.getGameObjectIds(npc)) {
+				int cost = FurnitureCostData.getPackedCost(id);
+				for (int tier = FurnitureCostData.getMinTierOrdinal(cost); tier < TIERS; tier++) {
+					planks[tier] += FurnitureCostData.getPlankCost(cost);
+					steelBars[tier] += FurnitureCostData.getSteelBarCost(cost);
+				}
+			}
+			int base = npc.ordinal() * TIERS;
+			for (int tier = 0; tier < TIERS; tier++) {
+				values[base + tier] = pack(planks[tier], steelBars[tier]);
+			}
+		}
+		return values;
+	}
+
+	private static int pack(int planks, int steelBars) {
+		return (planks << 8) | steelBars;
+	}
+
+	/**
+	 * @param npc  The contract NPC.
+	 * @param tier The plank tier.
+	 * @return The packed requirements; read with {@link #getPlanks(int)} and
+	 *         {@link #getSteelBars(int)}.
+	 */
+	static int get(ContractNpc npc, PlankType tier) {
+		return values()[npc.ordinal() * TIERS + tier.ordinal()];
+	}
+
+	/**
+	 * @param requirements Packed requirements from {@link #get}.
+	 * @return The most planks the contract can need.
+	 */
+	static int getPlanks(int requirements) {
+		return requirements >>> 8;
+	}
+
+	/**
+	 * @param requirements Packed requirements from {@link #get}.
+	 * @return The most steel bars the contract can need.
+	 */
+	static int getSteelBars(int requirements) {
+		return requirements & 0xff;
+	}
+}
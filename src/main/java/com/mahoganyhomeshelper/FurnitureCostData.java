@@ -25,9 +25,16 @@
 package com.mahoganyhomeshelper;
 
 // Java Standard Library
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collections; // Added import
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 // Third-party Libraries
 import lombok.Value;
@@ -38,6 +45,14 @@ import lombok.extern.slf4j.Slf4j;
  * GameObject ID mappings.
  * Costs are populated from wiki data and IDs are mapped based on collected
  * logs.
+ * <p>
+ * The dataset is shipped as the binary {@code furniture.dat} resource and is
+ * loaded on first use, not when the class is loaded. A readable copy of the
+ * data and the writer for the resource live in the test sources.
+ * <p>
+ * {@link FurnitureOverrides} can be applied on top of the shipped data. Every
+ * change builds a new immutable dataset that replaces the current one as a
+ * whole, so readers on any thread see either the old or the new data.
  */
 @Slf4j
 public class FurnitureCostData {
@@ -54,132 +69,228 @@ public class FurnitureCostData {
         int plankCost;
         /** The number of steel bars required. */
         int steelBarCost;
+        /** The lowest plank tier whose contracts can ask for the furniture. */
+        PlankType minTier;
     }
 
-    // Structure: Map<CityName (lower), Map<NpcName (lower), Map<FurnitureName
-    // (lower), FurnitureCost>>>
-    private static final Map<String, Map<String, Map<String, FurnitureCost>>> furnitureCosts = new HashMap<>();
+    /** Packed cost returned when a GameObject ID is not mapped. */
+    public static final int NO_COST = -1;
 
     /**
-     * Helper method to populate the furnitureCosts map during static
-     * initialization.
-     * Normalizes city, NPC, and furniture names to lowercase and removes
-     * "(1)"/"(2)"
-     * suffixes from furniture names.
+     * The highest GameObject ID accepted from an override. The cost table is
+     * dense over the mapped ID range (39981-40299 in the shipped data), so an
+     * ID far outside it would make the table needlessly large; this bound keeps
+     * it under 100k entries.
+     */
+    static final int MAX_OBJECT_ID = 100_000;
+
+    // Packed cost layout: planks in bits 0-7, steel bars in bits 8-15, owning
+    // ContractNpc ordinal in bits 16-23, minimum PlankType ordinal in bits 24-30
+    private static final int OWNER_SHIFT = 16;
+    private static final int TIER_SHIFT = 24;
+
+    private static final String RESOURCE = "furniture.dat";
+    static final int MAGIC = 0x4d484644;
+    static final int VERSION = 2;
+
+    /**
+     * The loaded dataset. Never modified once built.
+     */
+    private static final class Dataset {
+        /** Incremented every time the dataset is replaced. */
+        private final int revision;
+        /** Costs of each NPC's furniture by lowercase name, indexed by ContractNpc ordinal. */
+        private final Map<String, FurnitureCost>[] costs;
+        /** The lowest mapped GameObject ID. */
+        private final int minObjectId;
+        /** Packed cost of every GameObject ID from {@link #minObjectId}; {@link #NO_COST} if unmapped. */
+        private final int[] objectCosts;
+        /** Furniture name of every GameObject ID from {@link #minObjectId}; null if unmapped. */
+        private final String[] objectNames;
+        /** The mapped GameObject IDs. */
+        private final Set<Integer> mappedIds;
+
+        private Dataset(int revision, Map<String, FurnitureCost>[] costs, int minObjectId, int[] objectCosts,
+                String[] objectNames, Set<Integer> mappedIds) {
+            this.revision = revision;
+            this.costs = costs;
+            this.minObjectId = minObjectId;
+            this.objectCosts = objectCosts;
+            this.objectNames = objectNames;
+            this.mappedIds = Collections.unmodifiableSet(mappedIds);
+        }
+    }
+
+    /**
+     * Collects costs and GameObject mappings; later entries replace earlier
+     * ones.
+     */
+    private static final class DatasetBuilder {
+        private final Map<String, FurnitureCost>[] costs = newCostMaps();
+        private final Map<Integer, ContractNpc> owners = new LinkedHashMap<>();
+        private final Map<Integer, String> names = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, FurnitureCost>[] newCostMaps() {
+            Map<String, FurnitureCost>[] costs = new Map[ContractNpc.values().length];
+            for (int i = 0; i < costs.length; i++) {
+                costs[i] = new HashMap<>();
+            }
+            return costs;
+        }
+
+        /**
+         * @param minTier The lowest tier asking for the furniture, or null to keep
+         *                the tier of the cost being replaced.
+         */
+        private void addCost(ContractNpc npc, String name, int planks, int bars, PlankType minTier) {
+            String key = name.toLowerCase();
+            if (minTier == null) {
+                FurnitureCost replaced = costs[npc.ordinal()].get(key);
+                minTier = replaced != null ? replaced.getMinTier() : PlankType.PLANK;
+            }
+            costs[npc.ordinal()].put(key, new FurnitureCost(name, planks, bars, minTier));
+        }
+
+        private void addObject(ContractNpc npc, int id, String name) {
+            owners.put(id, npc);
+            names.put(id, name);
+        }
+
+        private Dataset build(int revision) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int id : owners.keySet()) {
+                min = Math.min(min, id);
+                max = Math.max(max, id);
+            }
+            if (min > max) {
+                min = max = 0;
+            }
+
+            int[] objectCosts = new int[max - min + 1];
+            String[] objectNames = new String[objectCosts.length];
+            Arrays.fill(objectCosts, NO_COST);
+            for (Map.Entry<Integer, ContractNpc> entry : owners.entrySet()) {
+                int id = entry.getKey();
+                ContractNpc owner = entry.getValue();
+                String name = names.get(id);
+                objectNames[id - min] = name;
+
+                FurnitureCost cost = costs[owner.ordinal()].get(name.toLowerCase());
+                if (cost == null) {
+                    log.warn("No cost for GameObject ID {} ({})", id, name);
+                    continue;
+                }
+                objectCosts[id - min] = (cost.getMinTier().ordinal() << TIER_SHIFT)
+                        | (owner.ordinal() << OWNER_SHIFT) | (cost.getSteelBarCost() << 8) | cost.getPlankCost();
+            }
+            return new Dataset(revision, costs, min, objectCosts, objectNames, owners.keySet());
+        }
+    }
+
+    /** The current dataset; loaded on first use and replaced when overrides change. */
+    private static volatile Dataset data;
+
+    private static Dataset data() {
+        Dataset current = data;
+        if (current == null) {
+            synchronized (FurnitureCostData.class) {
+                current = data;
+                if (current == null) {
+                    current = load(null, 0);
+                    data = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Rebuilds the dataset from the shipped data and the given overrides and
+     * swaps it in. Readers keep using the previous dataset until the swap, and
+     * keep it if building the new dataset fails.
      *
-     * @param city      The city name.
-     * @param npc       The NPC name.
-     * @param furniture The furniture name (potentially with suffixes).
-     * @param planks    The plank cost.
-     * @param bars      The steel bar cost.
+     * @param overrides The overrides to apply, or null for the shipped data only.
+     */
+    static void applyOverrides(FurnitureOverrides overrides) {
+        synchronized (FurnitureCostData.class) {
+            Dataset current = data;
+            data = load(overrides, current != null ? current.revision + 1 : 0);
+        }
+    }
+
+    /**
+     * @return A number that changes every time the dataset is replaced.
      */
-    private static void addCost(String city, String npc, String furniture, int planks, int bars) {
-        // Remove " (1)" or " (2)" suffixes and trim whitespace
-        String normalizedFurnitureName = furniture.replaceAll("\\s*\\(\\d+\\)$", "").trim();
-        FurnitureCost cost = new FurnitureCost(normalizedFurnitureName, planks, bars);
-
-        furnitureCosts
-                .computeIfAbsent(city.toLowerCase(), k -> new HashMap<>())
-                .computeIfAbsent(npc.toLowerCase(), k -> new HashMap<>())
-                .put(normalizedFurnitureName.toLowerCase(), cost); // Use lowercase name as key for lookup consistency
+    static int getRevision() {
+        return data().revision;
+    }
+
+    private static Dataset load(FurnitureOverrides overrides, int revision) {
+        DatasetBuilder builder = new DatasetBuilder();
+        try (InputStream in = FurnitureCostData.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                log.warn("Furniture dataset {} is missing", RESOURCE);
+            } else {
+                read(new DataInputStream(new BufferedInputStream(in)), builder);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read furniture dataset {}", RESOURCE, e);
+            builder = new DatasetBuilder();
+        }
+
+        if (overrides != null) {
+            for (FurnitureOverrides.Cost cost : overrides.getCosts()) {
+                builder.addCost(cost.getNpc(), cost.getFurniture(), cost.getPlanks(), cost.getSteelBars(),
+                        cost.getMinTier());
+            }
+            for (FurnitureOverrides.GameObject object : overrides.getObjects()) {
+                builder.addObject(object.getNpc(), object.getId(), object.getFurniture());
+            }
+        }
+        return builder.build(revision);
     }
 
-    // Static initializer block to populate the map
-    static {
-        // --- Ardougne ---
-        // Jess
-        addCost("ardougne", "jess", "Cabinet", 2, 0);
-        addCost("ardougne", "jess", "Drawers", 2, 0);
-        addCost("ardougne", "jess", "Bed", 3, 0);
-        addCost("ardougne", "jess", "Bathtub", 0, 1);
-        addCost("ardougne", "jess", "Grandfather Clock", 1, 0);
-        addCost("ardougne", "jess", "Table", 3, 0);
-        // Noella
-        addCost("ardougne", "noella", "Cupboard", 2, 0);
-        addCost("ardougne", "noella", "Dresser", 2, 0);
-        addCost("ardougne", "noella", "Drawers", 2, 0);
-        addCost("ardougne", "noella", "Hat Stand", 1, 0);
-        addCost("ardougne", "noella", "Table", 3, 0);
-        addCost("ardougne", "noella", "Grandfather clock", 1, 0);
-        addCost("ardougne", "noella", "Mirror", 1, 0);
-        // Ross
-        addCost("ardougne", "ross", "Bed", 2, 0);
-        addCost("ardougne", "ross", "Double Bed", 3, 0);
-        addCost("ardougne", "ross", "Drawers", 2, 0);
-        addCost("ardougne", "ross", "Hat Stand", 1, 0);
-        addCost("ardougne", "ross", "Mirror", 1, 0);
-        addCost("ardougne", "ross", "Range", 0, 1);
-
-        // --- Falador ---
-        // Larry
-        addCost("falador", "larry", "Drawers", 2, 0);
-        addCost("falador", "larry", "Grandfather Clock", 1, 0);
-        addCost("falador", "larry", "Hat stand", 1, 0);
-        addCost("falador", "larry", "Table", 3, 0);
-        addCost("falador", "larry", "Range", 0, 1);
-        // Norman
-        addCost("falador", "norman", "Bookshelf", 2, 0);
-        addCost("falador", "norman", "Double Bed", 3, 0);
-        addCost("falador", "norman", "Drawers", 2, 0);
-        addCost("falador", "norman", "Grandfather Clock", 1, 0);
-        addCost("falador", "norman", "Small Table", 2, 0);
-        addCost("falador", "norman", "Table", 3, 0);
-        addCost("falador", "norman", "Range", 0, 1);
-        // Tau
-        addCost("falador", "tau", "Cupboard", 2, 0);
-        addCost("falador", "tau", "Hat Stand", 1, 0);
-        addCost("falador", "tau", "Shelves", 2, 0);
-        addCost("falador", "tau", "Sink", 0, 1);
-        addCost("falador", "tau", "Table", 3, 0);
-
-        // --- Hosidius ---
-        // Barbara
-        addCost("hosidius", "barbara", "Bed", 2, 0);
-        addCost("hosidius", "barbara", "Chair", 1, 0);
-        addCost("hosidius", "barbara", "Drawers", 2, 0);
-        addCost("hosidius", "barbara", "Table", 3, 0);
-        addCost("hosidius", "barbara", "Range", 0, 1);
-        addCost("hosidius", "barbara", "Grandfather Clock", 1, 0);
-        // Leela
-        addCost("hosidius", "leela", "Cupboard", 2, 0);
-        addCost("hosidius", "leela", "Small Table", 2, 0);
-        addCost("hosidius", "leela", "Double Bed", 3, 0);
-        addCost("hosidius", "leela", "Mirror", 1, 0);
-        addCost("hosidius", "leela", "Table", 3, 0);
-        addCost("hosidius", "leela", "Sink", 0, 1);
-        // Mariah
-        addCost("hosidius", "mariah", "Bed", 2, 0);
-        addCost("hosidius", "mariah", "Cupboard", 2, 0);
-        addCost("hosidius", "mariah", "Hat Stand", 1, 0);
-        addCost("hosidius", "mariah", "Shelves", 2, 0);
-        addCost("hosidius", "mariah", "Sink", 0, 1);
-        addCost("hosidius", "mariah", "Small Table", 2, 0);
-        addCost("hosidius", "mariah", "Table", 3, 0);
-
-        // --- Varrock ---
-        // Bob
-        addCost("varrock", "bob", "Large table", 4, 0);
-        addCost("varrock", "bob", "Bookcase", 2, 0);
-        addCost("varrock", "bob", "Cabinet", 2, 0);
-        addCost("varrock", "bob", "Grandfather Clock", 1, 0);
-        addCost("varrock", "bob", "Wardrobe", 2, 0);
-        addCost("varrock", "bob", "Drawers", 2, 0);
-        // Jeff
-        addCost("varrock", "jeff", "Bookcase", 2, 0);
-        addCost("varrock", "jeff", "Chair", 1, 0);
-        addCost("varrock", "jeff", "Drawers", 2, 0);
-        addCost("varrock", "jeff", "Dresser", 2, 0);
-        addCost("varrock", "jeff", "Table", 3, 0);
-        addCost("varrock", "jeff", "Shelves", 2, 0);
-        addCost("varrock", "jeff", "Mirror", 1, 0);
-        addCost("varrock", "jeff", "Bed", 3, 0);
-        // Sarah
-        addCost("varrock", "sarah", "Bed", 2, 0);
-        addCost("varrock", "sarah", "Dresser", 2, 0);
-        addCost("varrock", "sarah", "Shelves", 2, 0);
-        addCost("varrock", "sarah", "Small table", 2, 0);
-        addCost("varrock", "sarah", "Table", 3, 0);
-        addCost("varrock", "sarah", "Range", 0, 1);
+    /**
+     * Reads the dataset. The format is a pool of names followed by one section
+     * per NPC with the costs of its furniture and the GameObject IDs in its house;
+     * names are written once and referenced by index. Each cost holds the planks,
+     * the steel bars and the ordinal of the lowest {@link PlankType} tier whose
+     * contracts can ask for the furniture.
+     */
+    private static void read(DataInputStream in, DatasetBuilder builder) throws IOException {
+        if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+            throw new IOException("Unsupported furniture dataset");
+        }
+
+        String[] names = new String[in.readUnsignedShort()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.readUTF().intern();
+        }
+
+        int npcCount = in.readUnsignedByte();
+        for (int n = 0; n < npcCount; n++) {
+            ContractNpc npc = ContractNpc.valueOf(names[in.readUnsignedShort()]);
+
+            int costCount = in.readUnsignedByte();
+            for (int i = 0; i < costCount; i++) {
+                String name = names[in.readUnsignedShort()];
+                int planks = in.readUnsignedByte();
+                int bars = in.readUnsignedByte();
+                int tier = in.readUnsignedByte();
+                if (tier >= PlankType.values().length) {
+                    throw new IOException("Unknown tier " + tier);
+                }
+                builder.addCost(npc, name, planks, bars, PlankType.values()[tier]);
+            }
+
+            int objectCount = in.readUnsignedByte();
+            for (int i = 0; i < objectCount; i++) {
+                int id = in.readInt();
+                builder.addObject(npc, id, names[in.readUnsignedShort()]);
+            }
+        }
     }
 
     /**
@@ -199,134 +310,90 @@ public class FurnitureCostData {
             return null;
         }
 
-        // Retrieve the map of furniture costs for the specific NPC, using lowercase
-        // keys
-        Map<String, FurnitureCost> npcCostsMap = furnitureCosts.getOrDefault(city.toLowerCase(), Collections.emptyMap())
-                .get(npc.toLowerCase());
+        ContractNpc contractNpc = ContractNpc.find(City.fromName(city), npc);
+        if (contractNpc == null) {
+            return null;
+        }
+        // Look up the cost directly using the lowercase furniture name
+        return data().costs[contractNpc.ordinal()].get(furnitureName.toLowerCase());
+    }
+
+    /**
+     * Gets the packed cost of a GameObject ID with a single array read.
+     *
+     * @param gameObjectId The ID of the GameObject.
+     * @return The packed cost, or {@link #NO_COST} if the ID is not mapped.
+     */
+    public static int getPackedCost(int gameObjectId) {
+        Dataset data = data();
+        int index = gameObjectId - data.minObjectId;
+        return (index >= 0 && index < data.objectCosts.length) ? data.objectCosts[index] : NO_COST;
+    }
 
-        if (npcCostsMap != null) {
-            // Look up the cost directly using the lowercase furniture name
-            FurnitureCost cost = npcCostsMap.get(furnitureName.toLowerCase());
-            if (cost != null) {
-                return cost;
+    /**
+     * @param packedCost A packed cost from {@link #getPackedCost(int)}.
+     * @return The number of planks required.
+     */
+    public static int getPlankCost(int packedCost) {
+        return packedCost & 0xff;
+    }
+
+    /**
+     * @param packedCost A packed cost from {@link #getPackedCost(int)}.
+     * @return The number of steel bars required.
+     */
+    public static int getSteelBarCost(int packedCost) {
+        return (packedCost >> 8) & 0xff;
+    }
+
+    /**
+     * @param packedCost A packed cost from {@link #getPackedCost(int)}.
+     * @return The ordinal of the {@link ContractNpc} whose house contains the
+     *         object.
+     */
+    public static int getOwnerOrdinal(int packedCost) {
+        return (packedCost >>> OWNER_SHIFT) & 0xff;
+    }
+
+    /**
+     * @param packedCost A packed cost from {@link #getPackedCost(int)}.
+     * @return The ordinal of the lowest {@link PlankType} tier whose contracts
+     *         can ask for the object's furniture.
+     */
+    public static int getMinTierOrdinal(int packedCost) {
+        return packedCost >>> TIER_SHIFT;
+    }
+
+    /**
+     * Gets the GameObject IDs of the furniture hotspots in an NPC's house.
+     *
+     * @param npc The contract NPC.
+     * @return The mapped GameObject IDs owned by the NPC, in ascending order.
+     */
+    public static int[] getGameObjectIds(ContractNpc npc) {
+        Dataset data = data();
+        int owner = npc.ordinal();
+        int count = 0;
+        for (int cost : data.objectCosts) {
+            if (cost != NO_COST && getOwnerOrdinal(cost) == owner) {
+                count++;
             }
         }
-        return null;
+        int[] ids = new int[count];
+        int next = 0;
+        for (int i = 0; i < data.objectCosts.length; i++) {
+            if (data.objectCosts[i] != NO_COST && getOwnerOrdinal(data.objectCosts[i]) == owner) {
+                ids[next++] = data.minObjectId + i;
+            }
+        }
+        return ids;
     }
 
-    // --- GameObject ID to Furniture Name Mapping ---
-
     /**
-     * Map linking GameObject IDs to their corresponding normalized furniture names.
+     * @return The mapped GameObject IDs, in no particular order.
      */
-    private static final Map<Integer, String> gameObjectIdToNameMap = new HashMap<>();
-
-    // Static initializer for the GameObject ID map
-    static {
-        // Populate map based on collected data (JSON provided by user)
-        // Format: gameObjectIdToNameMap.put(GameObjectId, "Normalized Furniture Name");
-
-        // Falador - Tau (IDs: 40083-40088)
-        gameObjectIdToNameMap.put(40085, "Table");
-        gameObjectIdToNameMap.put(40084, "Table");
-        gameObjectIdToNameMap.put(40086, "Cupboard");
-        gameObjectIdToNameMap.put(40087, "Shelves");
-        gameObjectIdToNameMap.put(40088, "Shelves");
-        gameObjectIdToNameMap.put(40083, "Sink");
-        // Falador - Larry (IDs: 40095-40099, 40297-40298)
-        gameObjectIdToNameMap.put(40298, "Hat stand");
-        gameObjectIdToNameMap.put(40096, "Drawers");
-        gameObjectIdToNameMap.put(40095, "Drawers");
-        gameObjectIdToNameMap.put(40297, "Range");
-        gameObjectIdToNameMap.put(40098, "Table");
-        gameObjectIdToNameMap.put(40099, "Grandfather Clock");
-        // Falador - Norman (IDs: 40089-40094, 40296)
-        gameObjectIdToNameMap.put(40091, "Double Bed");
-        gameObjectIdToNameMap.put(40089, "Grandfather Clock");
-        gameObjectIdToNameMap.put(40094, "Small Table");
-        gameObjectIdToNameMap.put(40090, "Table");
-        gameObjectIdToNameMap.put(40296, "Range");
-        gameObjectIdToNameMap.put(40092, "Bookshelf");
-        gameObjectIdToNameMap.put(40093, "Drawers");
-
-        // Ardougne - Ross
-        gameObjectIdToNameMap.put(40166, "Drawers");
-        gameObjectIdToNameMap.put(40165, "Drawers");
-        gameObjectIdToNameMap.put(40164, "Range");
-        gameObjectIdToNameMap.put(40168, "Hat Stand");
-        gameObjectIdToNameMap.put(40167, "Double Bed");
-        gameObjectIdToNameMap.put(40170, "Mirror");
-        gameObjectIdToNameMap.put(40169, "Bed");
-        // Ardougne - Noella
-        gameObjectIdToNameMap.put(40159, "Mirror");
-        gameObjectIdToNameMap.put(40157, "Cupboard");
-        gameObjectIdToNameMap.put(40156, "Dresser");
-        gameObjectIdToNameMap.put(40160, "Drawers");
-        gameObjectIdToNameMap.put(40161, "Table");
-        gameObjectIdToNameMap.put(40162, "Table");
-        gameObjectIdToNameMap.put(40158, "Hat stand");
-        gameObjectIdToNameMap.put(40163, "Grandfather clock");
-        // Ardougne - Jess
-        gameObjectIdToNameMap.put(40172, "Drawers");
-        gameObjectIdToNameMap.put(40174, "Cabinet");
-        gameObjectIdToNameMap.put(40173, "Cabinet");
-        gameObjectIdToNameMap.put(40175, "Bed");
-        gameObjectIdToNameMap.put(40177, "Grandfather Clock");
-        gameObjectIdToNameMap.put(40171, "Drawers");
-        gameObjectIdToNameMap.put(40299, "Bathtub");
-        gameObjectIdToNameMap.put(40176, "Table");
-
-        // Varrock - Sarah
-        gameObjectIdToNameMap.put(39997, "Table");
-        gameObjectIdToNameMap.put(40286, "Range");
-        gameObjectIdToNameMap.put(40001, "Shelves");
-        gameObjectIdToNameMap.put(40000, "Small table");
-        gameObjectIdToNameMap.put(39998, "Bed");
-        gameObjectIdToNameMap.put(39999, "Dresser");
-        // Varrock - Jeff
-        gameObjectIdToNameMap.put(39990, "Bookcase");
-        gameObjectIdToNameMap.put(39989, "Table");
-        gameObjectIdToNameMap.put(39991, "Shelves");
-        gameObjectIdToNameMap.put(39996, "Chair");
-        gameObjectIdToNameMap.put(39994, "Dresser");
-        gameObjectIdToNameMap.put(39993, "Drawers");
-        gameObjectIdToNameMap.put(39992, "Bed");
-        gameObjectIdToNameMap.put(39995, "Mirror");
-        // Varrock - Bob
-        gameObjectIdToNameMap.put(39981, "Large table");
-        gameObjectIdToNameMap.put(39982, "Grandfather Clock");
-        gameObjectIdToNameMap.put(39985, "Bookcase");
-        gameObjectIdToNameMap.put(39983, "Cabinet");
-        gameObjectIdToNameMap.put(39984, "Cabinet");
-        gameObjectIdToNameMap.put(39986, "Bookcase");
-        gameObjectIdToNameMap.put(39987, "Wardrobe");
-        gameObjectIdToNameMap.put(39988, "Drawers");
-
-        // Hosidius - Mariah
-        gameObjectIdToNameMap.put(40002, "Table");
-        gameObjectIdToNameMap.put(40289, "Hat stand");
-        gameObjectIdToNameMap.put(40287, "Sink");
-        gameObjectIdToNameMap.put(40288, "Cupboard");
-        gameObjectIdToNameMap.put(40003, "Shelves");
-        gameObjectIdToNameMap.put(40004, "Bed");
-        gameObjectIdToNameMap.put(40005, "Table");
-        gameObjectIdToNameMap.put(40006, "Small Table");
-        // Hosidius - Barbara
-        gameObjectIdToNameMap.put(40294, "Drawers");
-        gameObjectIdToNameMap.put(40012, "Table");
-        gameObjectIdToNameMap.put(40014, "Chair");
-        gameObjectIdToNameMap.put(40015, "Chair");
-        gameObjectIdToNameMap.put(40293, "Range");
-        gameObjectIdToNameMap.put(40013, "Bed");
-        gameObjectIdToNameMap.put(40011, "Grandfather Clock");
-        // Hosidius - Leela
-        gameObjectIdToNameMap.put(40008, "Small Table");
-        gameObjectIdToNameMap.put(40291, "Double Bed");
-        gameObjectIdToNameMap.put(40007, "Small Table");
-        gameObjectIdToNameMap.put(40290, "Sink");
-        gameObjectIdToNameMap.put(40292, "Cupboard");
-        gameObjectIdToNameMap.put(40010, "Mirror");
-        gameObjectIdToNameMap.put(40009, "Table");
+    static Set<Integer> getMappedGameObjectIds() {
+        return data().mappedIds;
     }
 
     /**
@@ -336,7 +403,8 @@ public class FurnitureCostData {
      * @return The normalized furniture name, or null if the ID is not mapped.
      */
     public static String getFurnitureNameForGameObjectId(int gameObjectId) {
-        String name = gameObjectIdToNameMap.get(gameObjectId);
-        return name;
+        Dataset data = data();
+        int index = gameObjectId - data.minObjectId;
+        return (index >= 0 && index < data.objectNames.length) ? data.objectNames[index] : null;
     }
 }
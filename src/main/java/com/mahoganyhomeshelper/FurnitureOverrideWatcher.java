@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches the optional furniture override file and applies it to
+ * {@link FurnitureCostData} on start and whenever it changes.
+ * <p>
+ * The file is watched, read and validated on a background thread, so a
+ * change never blocks the client thread. A file that fails validation is
+ * ignored and the data in use is kept; deleting the file reverts to the
+ * shipped data. Without a file, the shipped data is left alone and is not
+ * loaded early. After every change the listener is notified on the watcher
+ * thread, unless the watcher has been stopped in the meantime.
+ */
+@Slf4j
+final class FurnitureOverrideWatcher {
+	/** Quiet period after a change before the file is read, as editors often write in several steps. */
+	private static final long SETTLE_MILLIS = 250;
+
+	private final Path file;
+	private final Runnable listener;
+	private WatchService watchService;
+	private Thread thread;
+	/** Incremented by every start and stop; a thread only applies changes while it matches. */
+	private volatile int generation;
+	/** Whether overrides from the file are applied to the furniture data. */
+	private volatile boolean applied;
+
+	/**
+	 * @param file     The override file; it does not have to exist.
+	 * @param listener Called after the furniture data has been replaced.
+	 */
+	FurnitureOverrideWatcher(File file, Runnable listener) {
+		this.file = file.toPath().toAbsolutePath();
+		this.listener = listener;
+	}
+
+	/**
+	 * Applies the file if it exists and starts watching it.
+	 */
+	void start() {
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (IOException e) {
+			log.warn("Unable to watch furniture overrides {}", file, e);
+			close();
+			watchService = null;
+		}
+
+		int started = ++generation;
+		thread = new Thread(() -> run(started), "mahogany-homes-helper-overrides");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops watching. The furniture data in use is left as it is, and the
+	 * listener is not called again once this returns.
+	 */
+	void stop() {
+		synchronized (this) {
+			generation++;
+		}
+		close();
+		if (thread != null) {
+			thread.interrupt();
+			thread = null;
+		}
+	}
+
+	private void close() {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				// Ignore
+			}
+		}
+	}
+
+	private void run(int started) {
+		reload(started);
+		if (watchService == null) {
+			return;
+		}
+
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				boolean changed = pollChanged(key);
+				if (!changed) {
+					continue;
+				}
+				// Wait for the writes to settle before reading
+				while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					pollChanged(key);
+				}
+				reload(started);
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// Stopped
+		}
+	}
+
+	private boolean pollChanged(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	/**
+	 * @param started The generation the calling thread was started with.
+	 */
+	private void reload(int started) {
+		FurnitureOverrides overrides = null;
+		if (!Files.isRegularFile(file)) {
+			// Nothing to revert
+			if (!applied) {
+				return;
+			}
+		} else {
+			try {
+				overrides = FurnitureOverrides.parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+			} catch (IOException | IllegalArgumentException e) {
+				log.warn("Ignoring furniture overrides {}: {}", file, e.getMessage());
+				return;
+			}
+		}
+
+		synchronized (this) {
+			// Stopped while the file was being read
+			if (started != generation) {
+				return;
+			}
+			try {
+				FurnitureCostData.applyOverrides(overrides);
+			} catch (RuntimeException e) {
+				log.warn("Unable to apply furniture overrides {}", file, e);
+				return;
+			}
+			applied = overrides != null;
+			log.debug("Applied furniture overrides: {}", overrides != null ? file : "none");
+			listener.run();
+		}
+	}
+}
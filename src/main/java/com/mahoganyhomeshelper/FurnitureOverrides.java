@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Local corrections to the shipped furniture dataset, read from a text file
+ * with one entry per line:
+ * <pre>
+ * # cost,&lt;city&gt;,&lt;npc&gt;,&lt;furniture&gt;,&lt;planks&gt;,&lt;steel bars&gt;[,&lt;min tier&gt;]
+ * cost,Varrock,Sarah,Small table,2,0
+ * cost,Varrock,Jeff,Bed,3,0,Teak Planks
+ * # object,&lt;city&gt;,&lt;npc&gt;,&lt;GameObject ID&gt;,&lt;furniture&gt;
+ * object,Varrock,Sarah,40000,Small table
+ * </pre>
+ * A cost replaces the cost of the same furniture in the NPC's house, and an
+ * object replaces the mapping of the same GameObject ID. The optional minimum
+ * tier is the lowest plank tier whose contracts can ask for the furniture,
+ * given as a {@link PlankType} name or display name; without it the shipped
+ * tier is kept. Blank lines and lines starting with {@code #} are ignored.
+ */
+final class FurnitureOverrides {
+    /** A furniture cost entry. */
+    @Value
+    static class Cost {
+        ContractNpc npc;
+        String furniture;
+        int planks;
+        int steelBars;
+        /** The lowest tier asking for the furniture, or null to keep the shipped tier. */
+        PlankType minTier;
+    }
+
+    /** A GameObject ID mapping entry. */
+    @Value
+    static class GameObject {
+        ContractNpc npc;
+        int id;
+        String furniture;
+    }
+
+    private static final int MAX_COST = 255;
+
+    @Getter
+    private final List<Cost> costs;
+    @Getter
+    private final List<GameObject> objects;
+
+    private FurnitureOverrides(List<Cost> costs, List<GameObject> objects) {
+        this.costs = Collections.unmodifiableList(costs);
+        this.objects = Collections.unmodifiableList(objects);
+    }
+
+    /**
+     * Parses and validates the lines of an override file.
+     *
+     * @param lines The lines of the file.
+     * @return The overrides.
+     * @throws IllegalArgumentException If any line is invalid; the message names
+     *                                  the line.
+     */
+    static FurnitureOverrides parse(List<String> lines) {
+        List<Cost> costs = new ArrayList<>();
+        List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",", -1);
+            for (int f = 0; f < fields.length; f++) {
+                fields[f] = fields[f].trim();
+            }
+            int lineNumber = i + 1;
+            if (fields[0].equalsIgnoreCase("cost") && (fields.length == 6 || fields.length == 7)) {
+                costs.add(new Cost(parseNpc(fields, lineNumber), parseName(fields[3], lineNumber),
+                        parseCount(fields[4], lineNumber), parseCount(fields[5], lineNumber),
+                        fields.length == 7 ? parseTier(fields[6], lineNumber) : null));
+            } else if (fields[0].equalsIgnoreCase("object") && fields.length == 5) {
+                objects.add(new GameObject(parseNpc(fields, lineNumber), parseId(fields[3], lineNumber),
+                        parseName(fields[4], lineNumber)));
+            } else {
+                throw new IllegalArgumentException("line " + lineNumber + ": expected a cost or object entry");
+            }
+        }
+        return new FurnitureOverrides(costs, objects);
+    }
+
+    private static ContractNpc parseNpc(String[] fields, int lineNumber) {
+        City city = City.fromName(fields[1]);
+        if (city == null) {
+            throw new IllegalArgumentException("line " + lineNumber + ": unknown city " + fields[1]);
+        }
+        ContractNpc npc = ContractNpc.find(city, fields[2]);
+        if (npc == null) {
+            throw new IllegalArgumentException("line " + lineNumber + ": unknown NPC " + fields[2]);
+        }
+        return npc;
+    }
+
+    private static String parseName(String name, int lineNumber) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("line " + lineNumber + ": missing furniture name");
+        }
+        return name.intern();
+    }
+
+    private static int parseCount(String value, int lineNumber) {
+        int count = parseInt(value, lineNumber);
+        if (count < 0 || count > MAX_COST) {
+            throw new IllegalArgumentException("line " + lineNumber + ": cost out of range " + value);
+        }
+        return count;
+    }
+
+    private static PlankType parseTier(String value, int lineNumber) {
+        for (PlankType tier : PlankType.values()) {
+            if (tier.name().equalsIgnoreCase(value) || tier.getDisplayName().equalsIgnoreCase(value)) {
+                return tier;
+            }
+        }
+        throw new IllegalArgumentException("line " + lineNumber + ": unknown tier " + value);
+    }
+
+    private static int parseId(String value, int lineNumber) {
+        int id = parseInt(value, lineNumber);
+        if (id <= 0 || id > FurnitureCostData.MAX_OBJECT_ID) {
+            throw new IllegalArgumentException("line " + lineNumber + ": invalid GameObject ID " + value);
+        }
+        return id;
+    }
+
+    private static int parseInt(String value, int lineNumber) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + lineNumber + ": not a number " + value);
+        }
+    }
+}
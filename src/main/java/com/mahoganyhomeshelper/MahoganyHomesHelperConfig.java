@@ -47,90 +47,54 @@ public interface MahoganyHomesHelperConfig extends Config {
 		return PlankType.PLANK; // Default to regular planks
 	}
 
-	// --- Stored Marker Info (Managed by panel) ---
-	// Stores composite string: "configKey|groupName|markerId"
-	// e.g., "markers|null|123456" or "markerGroups|MyGroup|789012"
-	// Default "" indicates none selected.
+	// --- Stored Marker Bindings (Managed by panel) ---
 
 	/**
-	 * Stores composite marker info string for Varrock. Format: "key|group|id".
+	 * Stores the marker selected for every slot as a single versioned record.
 	 * Managed via the Plugin Panel.
 	 * 
-	 * @return The composite string for the Varrock marker, or "" if none selected.
+	 * @return The stored marker bindings, or "" if none have been selected.
 	 */
-	@ConfigItem(keyName = "varrockMarkerInfo", name = "", description = "Selected marker for Varrock contracts.", hidden = true)
-	default String varrockMarkerInfo() {
+	@ConfigItem(keyName = "markerBindings", name = "", description = "Selected markers for contracts and supply warnings.", hidden = true)
+	default String markerBindings() {
 		return "";
 	}
 
 	/**
-	 * Stores composite marker info string for Falador. Format: "key|group|id".
-	 * Managed via the Plugin Panel.
-	 * 
-	 * @return The composite string for the Falador marker, or "" if none selected.
-	 */
-	@ConfigItem(keyName = "faladorMarkerInfo", name = "", description = "Selected marker for Falador contracts.", hidden = true)
-	default String faladorMarkerInfo() {
-		return "";
-	}
-
-	/**
-	 * Stores composite marker info string for Ardougne. Format: "key|group|id".
-	 * Managed via the Plugin Panel.
-	 * 
-	 * @return The composite string for the Ardougne marker, or "" if none selected.
-	 */
-	@ConfigItem(keyName = "ardougneMarkerInfo", name = "", description = "Selected marker for Ardougne contracts.", hidden = true)
-	default String ardougneMarkerInfo() {
-		return "";
-	}
-
-	/**
-	 * Stores composite marker info string for Hosidius. Format: "key|group|id".
-	 * Managed via the Plugin Panel.
-	 * 
-	 * @return The composite string for the Hosidius marker, or "" if none selected.
-	 */
-	@ConfigItem(keyName = "hosidiusMarkerInfo", name = "", description = "Selected marker for Hosidius contracts.", hidden = true)
-	default String hosidiusMarkerInfo() {
-		return "";
-	}
-
-	/**
-	 * Stores composite marker info string for Low Planks warning. Format:
-	 * "key|group|id".
+	 * Determines whether to use dynamic minimum supply thresholds based on the
+	 * current contract NPC.
 	 * Managed via the Plugin Panel.
 	 * 
-	 * @return The composite string for the low planks marker, or "" if none
-	 *         selected.
+	 * @return true if dynamic minimums are enabled, false otherwise.
 	 */
-	@ConfigItem(keyName = "lowPlanksMarkerInfo", name = "", description = "Selected marker for low plank warning.", hidden = true)
-	default String lowPlanksMarkerInfo() {
-		return "";
+	@ConfigItem(keyName = "dynamicMinimums", name = "Dynamic Minimums", description = "Automatically set minimums based on current contract instead of manual input.", position = 10, hidden = true)
+	default boolean dynamicMinimums() {
+		return false; // Default to off
 	}
 
 	/**
-	 * Stores composite marker info string for Low Steel Bars warning. Format:
-	 * "key|group|id".
+	 * Determines whether the bound markers are drawn by this plugin's own overlay
+	 * instead of being toggled in the Screen Marker plugins. The marker shapes are
+	 * copied from the bound markers when the mode is enabled.
 	 * Managed via the Plugin Panel.
 	 * 
-	 * @return The composite string for the low steel bars marker, or "" if none
-	 *         selected.
+	 * @return true if markers are drawn natively, false otherwise.
 	 */
-	@ConfigItem(keyName = "lowSteelMarkerInfo", name = "", description = "Selected marker for low steel bar warning.", hidden = true)
-	default String lowSteelMarkerInfo() {
-		return "";
+	@ConfigItem(keyName = "nativeOverlay", name = "Native Overlay", description = "Draw the selected markers with this plugin's own overlay instead of toggling them in the Screen Marker plugins.", position = 11, hidden = true)
+	default boolean nativeOverlay() {
+		return false; // Default to off
 	}
 
 	/**
-	 * Determines whether to use dynamic minimum supply thresholds based on the
-	 * current contract NPC.
+	 * Determines whether marker visibility changes that were applied directly to
+	 * the Screen Marker plugins are stored without broadcasting a config change.
+	 * The stored markers are then written once at logout or shutdown.
 	 * Managed via the Plugin Panel.
 	 * 
-	 * @return true if dynamic minimums are enabled, false otherwise.
+	 * @return true if marker updates are deferred, false otherwise.
 	 */
-	@ConfigItem(keyName = "dynamicMinimums", name = "Dynamic Minimums", description = "Automatically set minimums based on current contract instead of manual input.", position = 10, hidden = true)
-	default boolean dynamicMinimums() {
+	@ConfigItem(keyName = "quietMarkerUpdates", name = "Quiet Marker Updates", description = "Update screen markers in place and store them once at logout instead of after every change.", position = 12, hidden = true)
+	default boolean quietMarkerUpdates() {
 		return false; // Default to off
 	}
 
@@ -160,29 +124,26 @@ public interface MahoganyHomesHelperConfig extends Config {
 		return 1; // Default threshold
 	}
 
-	// --- Plank Sack Count (Hidden, managed internally) ---
-	/** Config group specifically for storing the estimated plank sack count. */
+	// --- Plank Sack Contents (Hidden, managed internally) ---
+	/** Config group specifically for storing the estimated plank sack contents. */
 	String SACK_CONFIG_GROUP = "mahoganyhomessack"; // Separate group to avoid conflict if user also has PlankSackPlugin
-	/** Config key for storing the estimated plank sack count. */
-	String SACK_KEY = "plankcount";
-
 	/**
-	 * Stores the internally estimated number of planks in the player's plank sack.
-	 * -1 indicates the count is unknown. Managed internally by the plugin's
-	 * estimation logic.
-	 * 
-	 * @return The estimated plank count, or -1 if unknown.
+	 * Config key for storing the estimated plank sack contents, one count per
+	 * plank type: "basic,oak,teak,mahogany".
 	 */
-	@ConfigItem(keyName = SACK_KEY, name = "", description = "Estimated plank sack count.", hidden = true)
-	default int estimatedPlankCount() {
-		return -1; // Default to unknown
-	}
+	String SACK_KEY = "plankcounts";
+	/** Config key of the former single summed plank count. Only read when migrating. */
+	String LEGACY_SACK_KEY = "plankcount";
 
 	/**
-	 * Setter for the estimated plank sack count. Used internally by the plugin.
+	 * Stores the internally estimated contents of the player's plank sack.
+	 * "" indicates the contents are unknown. Managed internally by the plugin's
+	 * estimation logic.
 	 * 
-	 * @param count The new estimated count.
+	 * @return The estimated counts per plank type, or "" if unknown.
 	 */
-	@ConfigItem(keyName = SACK_KEY, name = "", description = "", hidden = true)
-	void setEstimatedPlankCount(int count);
+	@ConfigItem(keyName = SACK_KEY, name = "", description = "Estimated plank sack contents.", hidden = true)
+	default String estimatedPlankCounts() {
+		return ""; // Default to unknown
+	}
 }
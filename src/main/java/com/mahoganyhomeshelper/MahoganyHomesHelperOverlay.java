@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.awt.BasicStroke;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Draws the bound screen markers directly from plugin state when the native
+ * overlay mode is enabled, so visibility changes never touch the config.
+ */
+class MahoganyHomesHelperOverlay extends Overlay {
+	private final MahoganyHomesHelperPlugin plugin;
+
+	@Inject
+	MahoganyHomesHelperOverlay(MahoganyHomesHelperPlugin plugin) {
+		this.plugin = plugin;
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ALWAYS_ON_TOP);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics) {
+		Stroke originalStroke = graphics.getStroke();
+		for (MirroredMarker marker : plugin.getMirroredMarkers().values()) {
+			if (!marker.isVisible()) {
+				continue;
+			}
+
+			// Same geometry as the Screen Marker plugin: the border is drawn inside the bounds
+			Rectangle bounds = marker.getBounds();
+			int thickness = marker.getBorderThickness();
+			int offset = thickness / 2;
+			int width = bounds.width - thickness;
+			int height = bounds.height - thickness;
+
+			if (marker.getFill() != null) {
+				graphics.setColor(marker.getFill());
+				graphics.fillRect(bounds.x + offset, bounds.y + offset, width, height);
+			}
+			if (marker.getColor() != null && thickness > 0) {
+				graphics.setStroke(new BasicStroke(thickness));
+				graphics.setColor(marker.getColor());
+				graphics.drawRect(bounds.x + offset, bounds.y + offset, width, height);
+			}
+		}
+		graphics.setStroke(originalStroke);
+		return null;
+	}
+}
@@ -44,17 +44,19 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
 
     private static final String CONFIG_GROUP = "mahoganyhomeshelper";
     private static final MarkerInfo NONE_MARKER = new MarkerInfo(-1L, "None", null, null);
-    private static final String INFO_SEPARATOR = "|";
 
     private final MahoganyHomesHelperPlugin plugin;
-    private final MahoganyHomesHelperConfig config;
     private final ConfigManager configManager;
     private final ClientThread clientThread;
 
     private JComboBox<PlankType> plankTypeComboBox;
     private JCheckBox dynamicMinimumsCheckbox;
+    private JCheckBox nativeOverlayCheckbox;
+    private JCheckBox quietMarkerUpdatesCheckbox;
     private JSpinner minPlanksSpinner;
     private JSpinner minSteelBarsSpinner;
+    private JLabel plankSackLabel;
+    private String plankSackText = "Unknown";
 
     private JComboBox<MarkerInfo> varrockCombo;
     private JComboBox<MarkerInfo> faladorCombo;
@@ -65,12 +67,11 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
 
     private List<MarkerInfo> availableMarkers;
 
-    public MahoganyHomesHelperPanel(MahoganyHomesHelperPlugin plugin, MahoganyHomesHelperConfig config,
-            ConfigManager configManager, ClientThread clientThread) {
+    public MahoganyHomesHelperPanel(MahoganyHomesHelperPlugin plugin, ConfigManager configManager,
+            ClientThread clientThread) {
         super(false);
 
         this.plugin = plugin;
-        this.config = config;
         this.configManager = configManager;
         this.clientThread = clientThread;
 
@@ -87,56 +88,6 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
         });
     }
 
-    /**
-     * Parses the composite marker info string format ("key|group|id") into a
-     * MarkerInfo object.
-     * The 'name' field of the returned MarkerInfo will be null as it's not stored
-     * in the string.
-     *
-     * @param info The composite string from the configuration.
-     * @return A MarkerInfo object representing the stored marker, or NONE_MARKER if
-     *         parsing fails or the string is empty/invalid.
-     */
-    private MarkerInfo parseMarkerInfoString(String info) {
-        if (info == null || info.isEmpty()) {
-            return NONE_MARKER;
-        }
-        String[] parts = info.split("\\" + INFO_SEPARATOR, 3);
-        if (parts.length != 3) {
-            return NONE_MARKER;
-        }
-        try {
-            String key = parts[0];
-            String group = "null".equalsIgnoreCase(parts[1]) ? null : parts[1];
-            long id = Long.parseLong(parts[2]);
-            if (id < 0) {
-                return NONE_MARKER;
-            }
-            return new MarkerInfo(id, null, group, key);
-        } catch (NumberFormatException e) {
-            return NONE_MARKER;
-        }
-    }
-
-    /**
-     * Creates the composite marker info string ("key|group|id") from a MarkerInfo
-     * object for storage.
-     *
-     * @param markerInfo The MarkerInfo object to serialize.
-     * @return The composite string representation, or an empty string if the input
-     *         is null or represents NONE_MARKER.
-     */
-    private String createMarkerInfoString(MarkerInfo markerInfo) {
-        if (markerInfo == null || markerInfo.getId() < 0) {
-            return "";
-        }
-        String groupString = markerInfo.getGroupName() == null ? "null" : markerInfo.getGroupName();
-        return String.join(INFO_SEPARATOR,
-                markerInfo.getSourcePluginKey(),
-                groupString,
-                String.valueOf(markerInfo.getId()));
-    }
-
     /**
      * Constructs the main panel layout and components.
      * This method should be called on the Swing Event Dispatch Thread.
@@ -195,6 +146,43 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
         c.fill = GridBagConstraints.HORIZONTAL;
         c.weightx = 0;
 
+        mainPanel.add(new JLabel("Native Overlay:"), c);
+        c.gridx++;
+        c.fill = GridBagConstraints.NONE;
+        c.anchor = GridBagConstraints.WEST;
+        c.weightx = 1;
+        nativeOverlayCheckbox = new JCheckBox();
+        nativeOverlayCheckbox.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        nativeOverlayCheckbox.setToolTipText("Draw the selected markers with this plugin's own overlay");
+        nativeOverlayCheckbox.addItemListener(e -> {
+            boolean isSelected = e.getStateChange() == ItemEvent.SELECTED;
+            clientThread.invokeLater(() -> configManager.setConfiguration(CONFIG_GROUP, "nativeOverlay", isSelected));
+        });
+        mainPanel.add(nativeOverlayCheckbox, c);
+        c.gridy++;
+        c.gridx = 0;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        c.weightx = 0;
+
+        mainPanel.add(new JLabel("Quiet Marker Updates:"), c);
+        c.gridx++;
+        c.fill = GridBagConstraints.NONE;
+        c.anchor = GridBagConstraints.WEST;
+        c.weightx = 1;
+        quietMarkerUpdatesCheckbox = new JCheckBox();
+        quietMarkerUpdatesCheckbox.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        quietMarkerUpdatesCheckbox.setToolTipText("Update screen markers in place and store them once at logout");
+        quietMarkerUpdatesCheckbox.addItemListener(e -> {
+            boolean isSelected = e.getStateChange() == ItemEvent.SELECTED;
+            clientThread.invokeLater(
+                    () -> configManager.setConfiguration(CONFIG_GROUP, "quietMarkerUpdates", isSelected));
+        });
+        mainPanel.add(quietMarkerUpdatesCheckbox, c);
+        c.gridy++;
+        c.gridx = 0;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        c.weightx = 0;
+
         mainPanel.add(new JLabel("Min Planks:"), c);
         c.gridx++;
         c.fill = GridBagConstraints.NONE;
@@ -229,6 +217,19 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
         c.fill = GridBagConstraints.HORIZONTAL;
         c.weightx = 0;
 
+        mainPanel.add(new JLabel("Plank Sack:"), c);
+        c.gridx++;
+        c.fill = GridBagConstraints.NONE;
+        c.anchor = GridBagConstraints.WEST;
+        c.weightx = 1;
+        plankSackLabel = new JLabel(plankSackText);
+        plankSackLabel.setToolTipText("Planks in the sack and how far the estimate can be trusted");
+        mainPanel.add(plankSackLabel, c);
+        c.gridy++;
+        c.gridx = 0;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        c.weightx = 0;
+
         c.gridy++;
         c.gridx = 0;
         c.gridwidth = 2;
@@ -242,13 +243,13 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
             this.availableMarkers = Collections.emptyList();
         }
 
-        varrockCombo = createMarkerComboBox(this.availableMarkers, config.varrockMarkerInfo(), "varrockMarkerInfo");
-        faladorCombo = createMarkerComboBox(this.availableMarkers, config.faladorMarkerInfo(), "faladorMarkerInfo");
-        ardougneCombo = createMarkerComboBox(this.availableMarkers, config.ardougneMarkerInfo(), "ardougneMarkerInfo");
-        hosidiusCombo = createMarkerComboBox(this.availableMarkers, config.hosidiusMarkerInfo(), "hosidiusMarkerInfo");
-        lowPlanksCombo = createMarkerComboBox(this.availableMarkers, config.lowPlanksMarkerInfo(),
-                "lowPlanksMarkerInfo");
-        lowSteelCombo = createMarkerComboBox(this.availableMarkers, config.lowSteelMarkerInfo(), "lowSteelMarkerInfo");
+        MarkerBindings bindings = plugin.getConfigSnapshot().getMarkerBindings();
+        varrockCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.VARROCK);
+        faladorCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.FALADOR);
+        ardougneCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.ARDOUGNE);
+        hosidiusCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.HOSIDIUS);
+        lowPlanksCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.LOW_PLANKS);
+        lowSteelCombo = createMarkerComboBox(this.availableMarkers, bindings, MarkerSlot.LOW_STEEL);
 
         Dimension comboSize = new Dimension(120, varrockCombo.getPreferredSize().height);
         varrockCombo.setPreferredSize(comboSize);
@@ -338,25 +339,22 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
      * sets the initial selection based on current configuration, and adds a
      * listener to save changes back to the config.
      *
-     * @param availableMarkers        The list of currently available MarkerInfo
-     *                                objects.
-     * @param currentMarkerInfoString The composite string ("key|group|id") from the
-     *                                config for the current selection.
-     * @param configKey               The specific configuration key this combo box
-     *                                manages (e.g., "varrockMarkerInfo").
+     * @param availableMarkers The list of currently available MarkerInfo objects.
+     * @param bindings         The current marker bindings.
+     * @param slot             The marker slot this combo box manages.
      * @return A configured JComboBox instance.
      */
-    private JComboBox<MarkerInfo> createMarkerComboBox(List<MarkerInfo> availableMarkers,
-            String currentMarkerInfoString, String configKey) {
+    private JComboBox<MarkerInfo> createMarkerComboBox(List<MarkerInfo> availableMarkers, MarkerBindings bindings,
+            MarkerSlot slot) {
         Vector<MarkerInfo> comboBoxModel = new Vector<>(availableMarkers);
         comboBoxModel.insertElementAt(NONE_MARKER, 0);
 
         JComboBox<MarkerInfo> comboBox = new JComboBox<>(comboBoxModel);
 
-        MarkerInfo currentSelectionTarget = parseMarkerInfoString(currentMarkerInfoString);
+        MarkerInfo currentSelectionTarget = bindings.get(slot);
         MarkerInfo actualSelection = NONE_MARKER;
 
-        if (currentSelectionTarget.getId() >= 0) {
+        if (currentSelectionTarget != null) {
             for (MarkerInfo available : availableMarkers) {
                 if (available.getId() == currentSelectionTarget.getId() &&
                         Objects.equals(available.getSourcePluginKey(), currentSelectionTarget.getSourcePluginKey()) &&
@@ -386,10 +384,9 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
         comboBox.addItemListener(e -> {
             if (e.getStateChange() == ItemEvent.SELECTED) {
                 MarkerInfo selected = (MarkerInfo) e.getItem();
-                String infoString = createMarkerInfoString(selected);
                 clientThread.invokeLater(() -> {
                     try {
-                        configManager.setConfiguration(CONFIG_GROUP, configKey, infoString);
+                        plugin.setMarkerBinding(slot, selected);
                     } catch (Exception ex) {
                     }
                 });
@@ -406,15 +403,18 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
      */
     private void loadConfiguration() {
         clientThread.invokeLater(() -> {
-            plankTypeComboBox.setSelectedItem(config.plankType());
+            ConfigSnapshot snapshot = plugin.getConfigSnapshot();
+            plankTypeComboBox.setSelectedItem(snapshot.getPlankType());
 
-            boolean dynamicEnabled = config.dynamicMinimums();
+            boolean dynamicEnabled = snapshot.isDynamicMinimums();
             dynamicMinimumsCheckbox.setSelected(dynamicEnabled);
+            nativeOverlayCheckbox.setSelected(snapshot.isNativeOverlay());
+            quietMarkerUpdatesCheckbox.setSelected(snapshot.isQuietMarkerUpdates());
             minPlanksSpinner.setEnabled(!dynamicEnabled);
             minSteelBarsSpinner.setEnabled(!dynamicEnabled);
 
-            minPlanksSpinner.setValue(config.minPlanks());
-            minSteelBarsSpinner.setValue(config.minSteelBars());
+            minPlanksSpinner.setValue(snapshot.getMinPlanks());
+            minSteelBarsSpinner.setValue(snapshot.getMinSteelBars());
         });
     }
 
@@ -438,4 +438,23 @@ public class MahoganyHomesHelperPanel extends PluginPanel {
             }
         });
     }
+
+    /**
+     * Shows the plank sack estimate next to its confidence.
+     * Ensures the update happens on the Swing Event Dispatch Thread.
+     *
+     * @param total      The number of planks in the sack, or -1 if unknown.
+     * @param confidence How far the estimate can be trusted.
+     */
+    public void updatePlankSack(int total, SackLedger.Confidence confidence) {
+        String name = confidence.name();
+        String text = total < 0 ? "Unknown"
+                : total + "/" + PlankSack.CAPACITY + " (" + name.charAt(0) + name.substring(1).toLowerCase() + ")";
+        SwingUtilities.invokeLater(() -> {
+            plankSackText = text;
+            if (plankSackLabel != null) {
+                plankSackLabel.setText(text);
+            }
+        });
+    }
 }
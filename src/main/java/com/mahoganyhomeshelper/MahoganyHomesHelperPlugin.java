@@ -26,34 +26,25 @@
 package com.mahoganyhomeshelper;
 
 import java.awt.Color;
+import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Type;
+import java.io.File;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
-import com.google.common.collect.Multisets;
-import com.google.common.primitives.Ints;
 import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.google.inject.Provides;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.InventoryID;
@@ -70,17 +61,20 @@ import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.api.events.ScriptPostFired;
 import net.runelite.api.events.ScriptPreFired;
 import net.runelite.api.widgets.Widget;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.PluginChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
-import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
-import net.runelite.client.util.Text;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayManager;
 
 /**
  * RuneLite plugin to assist with the Mahogany Homes minigame by automatically
@@ -91,17 +85,18 @@ import net.runelite.client.util.Text;
 @PluginDescriptor(name = "Mahogany Homes Helper", description = "Activates screen markers based on Mahogany Homes contract city and supply levels via Plugin Panel config.", tags = {
 		"mahogany homes", "construction", "skilling", "screen marker", "helper", "mahogany", "homes" })
 public class MahoganyHomesHelperPlugin extends Plugin {
-	private static final String SCREEN_MARKER_CONFIG_GROUP = "screenmarkers";
-	private static final String SCREEN_MARKER_MARKERS_KEY = "markers";
-	private static final String SCREEN_MARKER_GROUPS_CONFIG_GROUP = "screenmarkergroups";
-	private static final String SCREEN_MARKER_GROUPS_KEY = "markerGroups";
-
-	private static final Pattern CONTRACT_PATTERN = Pattern.compile(
-			".*?see <col=ff0000>([^<]+?)\\s*</col>.*?<col=ff0000>(Varrock|Falador|Ardougne(?: market)?|Hosidius)</col>.*",
-			Pattern.CASE_INSENSITIVE);
-
-	private static final List<Integer> PLANKS = Arrays.asList(ItemID.PLANK, ItemID.OAK_PLANK, ItemID.TEAK_PLANK,
-			ItemID.MAHOGANY_PLANK);
+	private static final String CONFIG_GROUP = "mahoganyhomeshelper";
+	private static final String SCREEN_MARKER_CONFIG_GROUP = ScreenMarkerCatalog.SCREEN_MARKER_CONFIG_GROUP;
+	private static final String SCREEN_MARKER_MARKERS_KEY = ScreenMarkerCatalog.SCREEN_MARKER_MARKERS_KEY;
+	private static final String SCREEN_MARKER_GROUPS_CONFIG_GROUP = ScreenMarkerCatalog.SCREEN_MARKER_GROUPS_CONFIG_GROUP;
+	private static final String SCREEN_MARKER_GROUPS_KEY = ScreenMarkerCatalog.SCREEN_MARKER_GROUPS_KEY;
+
+	private static final String RUNELITE_CONFIG_GROUP = "runelite";
+	private static final List<String> SCREEN_MARKER_PLUGIN_KEYS = Arrays.asList("screenmarkerplugin",
+			"screenmarkergroupsplugin");
+
+	private static final PlankType[] PLANK_TYPES = PlankType.values();
+	/** Build menu material names, in {@link PlankType} order. */
 	private static final List<String> PLANK_NAMES = Arrays.asList("Plank", "Oak plank", "Teak plank",
 			"Mahogany plank");
 	private static final int CONSTRUCTION_WIDGET_GROUP = 458;
@@ -109,60 +104,6 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 	private static final int CONSTRUCTION_SUBWIDGET_MATERIALS = 3;
 	private static final int CONSTRUCTION_SUBWIDGET_CANT_BUILD = 5;
 
-	private static final Map<String, Map<String, Map<PlankType, Point>>> NPC_REQUIREMENTS;
-
-	static {
-		Map<String, Map<String, Map<PlankType, Point>>> reqMap = new HashMap<>();
-		Map<String, Map<PlankType, Point>> ardougneNpcs = new HashMap<>();
-		ardougneNpcs.put("jess", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
-				PlankType.TEAK_PLANK, new Point(15, 1), PlankType.MAHOGANY_PLANK, new Point(15, 1)));
-		ardougneNpcs.put("noella", Map.of(PlankType.PLANK, new Point(12, 0), PlankType.OAK_PLANK, new Point(12, 0),
-				PlankType.TEAK_PLANK, new Point(15, 0), PlankType.MAHOGANY_PLANK, new Point(15, 0)));
-		ardougneNpcs.put("ross", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
-				PlankType.TEAK_PLANK, new Point(11, 1), PlankType.MAHOGANY_PLANK, new Point(11, 1)));
-		reqMap.put("ardougne", Collections.unmodifiableMap(ardougneNpcs));
-		Map<String, Map<PlankType, Point>> faladorNpcs = new HashMap<>();
-		faladorNpcs.put("larry", Map.of(PlankType.PLANK, new Point(12, 1), PlankType.OAK_PLANK, new Point(12, 1),
-				PlankType.TEAK_PLANK, new Point(12, 1), PlankType.MAHOGANY_PLANK, new Point(12, 1)));
-		faladorNpcs.put("norman", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
-				PlankType.TEAK_PLANK, new Point(13, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
-		faladorNpcs.put("tau", Map.of(PlankType.PLANK, new Point(12, 1), PlankType.OAK_PLANK, new Point(12, 1),
-				PlankType.TEAK_PLANK, new Point(13, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
-		reqMap.put("falador", Collections.unmodifiableMap(faladorNpcs));
-		Map<String, Map<PlankType, Point>> hosidiusNpcs = new HashMap<>();
-		hosidiusNpcs.put("barbara", Map.of(PlankType.PLANK, new Point(8, 1), PlankType.OAK_PLANK, new Point(8, 1),
-				PlankType.TEAK_PLANK, new Point(10, 1), PlankType.MAHOGANY_PLANK, new Point(10, 1)));
-		hosidiusNpcs.put("leela", Map.of(PlankType.PLANK, new Point(9, 1), PlankType.OAK_PLANK, new Point(9, 1),
-				PlankType.TEAK_PLANK, new Point(10, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
-		hosidiusNpcs.put("mariah", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
-				PlankType.TEAK_PLANK, new Point(14, 1), PlankType.MAHOGANY_PLANK, new Point(14, 1)));
-		reqMap.put("hosidius", Collections.unmodifiableMap(hosidiusNpcs));
-		Map<String, Map<PlankType, Point>> varrockNpcs = new HashMap<>();
-		varrockNpcs.put("bob", Map.of(PlankType.PLANK, new Point(14, 0), PlankType.OAK_PLANK, new Point(14, 0),
-				PlankType.TEAK_PLANK, new Point(17, 0), PlankType.MAHOGANY_PLANK, new Point(17, 0)));
-		varrockNpcs.put("jeff", Map.of(PlankType.PLANK, new Point(13, 0), PlankType.OAK_PLANK, new Point(13, 0),
-				PlankType.TEAK_PLANK, new Point(16, 0), PlankType.MAHOGANY_PLANK, new Point(16, 0)));
-		varrockNpcs.put("sarah", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
-				PlankType.TEAK_PLANK, new Point(11, 1), PlankType.MAHOGANY_PLANK, new Point(11, 1)));
-		reqMap.put("varrock", Collections.unmodifiableMap(varrockNpcs));
-		NPC_REQUIREMENTS = Collections.unmodifiableMap(reqMap);
-	}
-
-	private static class MarkerPojo {
-		long id;
-		String name;
-		boolean visible;
-		Long importedId;
-		@SuppressWarnings("unused") // Field required by ScreenMarkerPlugin to avoid data loss on serialization
-		int borderThickness;
-		@SuppressWarnings("unused") // Field required by ScreenMarkerPlugin to avoid data loss on serialization
-		Color color;
-		@SuppressWarnings("unused") // Field required by ScreenMarkerPlugin to avoid data loss on serialization
-		Color fill;
-		@SuppressWarnings("unused") // Field required by ScreenMarkerPlugin to avoid data loss on serialization
-		boolean labelled;
-	}
-
 	@Data
 	private static class BuildMenuItem {
 		private final Item[] planks;
@@ -180,31 +121,75 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 	@Inject
 	private ConfigManager configManager;
 	@Inject
+	private ScreenMarkerCatalog markerCatalog;
+	@Inject
+	private ScreenMarkerPluginAdapter markerPluginAdapter;
+	@Inject
 	private Gson gson;
 	@Inject
-	private EventBus eventBus;
+	private PlankSackStore plankSackStore;
+	@Inject
+	private OverlayManager overlayManager;
 	@Inject
-	private PluginManager pluginManager;
+	private MahoganyHomesHelperOverlay overlay;
 
 	private NavigationButton navButton;
 	private MahoganyHomesHelperPanel panel;
-
-	private MarkerInfo currentCityMarker = null;
-	private String currentContractCity = null;
-	private String currentContractNpc = null;
-
-	private static final String INFO_SEPARATOR = "|";
-
-	private int estimatedPlankCount = -1;
-	private Multiset<Integer> inventorySnapshot;
-	private boolean checkForUpdate = false;
+	/** Cleared on shut down, so callbacks queued before it are ignored. */
+	private volatile boolean started = false;
+
+	private volatile ConfigSnapshot configSnapshot;
+	private final PluginStateFile stateFile = new PluginStateFile(
+			new File(RuneLite.RUNELITE_DIR, "mahogany-homes-helper.state"));
+	private int storedMarkerState = -1;
+	/** The RuneScape profile the stored marker state belongs to. */
+	private String storedMarkerProfile = null;
+	private final FurnitureOverrideWatcher overrideWatcher = new FurnitureOverrideWatcher(
+			new File(RuneLite.RUNELITE_DIR, "mahogany-homes-helper-overrides.txt"),
+			() -> clientThread.invokeLater(this::furnitureDataChanged));
+	private final MarkerReconciler markerReconciler = new MarkerReconciler(this::lookupMarkerVisibility);
+	private City currentContractCity = null;
+	/** The contract NPC, or null if unknown even though the city is known. */
+	private ContractNpc currentContractNpc = null;
+	/** Hotspot costs of the current contract, replaced as a whole on a new contract. */
+	private volatile ContractCostTable contractCosts = ContractCostTable.EMPTY;
+
+	private final PlankSack plankSack = new PlankSack();
+	private final SackLedger sackLedger = new SackLedger(plankSack);
+	private final ChatMessageClassifier chatClassifier = new ChatMessageClassifier();
+	private final PendingBuild pendingBuild = new PendingBuild();
+	/** The RuneScape profile the sack estimate belongs to. */
+	private String plankSackProfile = null;
+	/** The sack total and confidence last shown in the panel; -1 if unknown. */
+	private int shownSackTotal = -1;
+	private SackLedger.Confidence shownSackConfidence = null;
+	/** Set by every input of the supply check; evaluated once per game tick. */
+	private volatile boolean suppliesDirty = true;
+	/** Plank and steel bar counts of the inventory, read at most once per tick. */
+	private final SupplySnapshot tickInventory = new SupplySnapshot();
+	private boolean tickInventoryRead = false;
 	private int menuItemsToCheck = 0;
 	private final List<BuildMenuItem> buildMenuItems = new ArrayList<>();
-	private int lastClickedGameObjectId = -1;
+
+	private boolean nativeOverlay = false;
+	private final Map<MarkerInfo, MirroredMarker> mirroredMarkers = new HashMap<>();
+
+	/** Marker config keys (to their config group) with changes not yet written. */
+	private final Map<String, String> deferredMarkerSources = new LinkedHashMap<>();
+	private final Map<Long, Boolean> pendingMarkerChanges = new LinkedHashMap<>();
+	private final Map<String, Map<Long, Boolean>> pendingGroupMarkerChanges = new LinkedHashMap<>();
 
 	@Override
 	protected void startUp() throws Exception {
-		panel = new MahoganyHomesHelperPanel(this, config, configManager, clientThread);
+		configSnapshot = ConfigSnapshot.load(config, MarkerBindings.load(configManager, CONFIG_GROUP, gson));
+		markerCatalog.invalidateAll();
+		markerPluginAdapter.resolve();
+		markerReconciler.invalidate();
+		restoreState();
+		started = true;
+		overrideWatcher.start();
+		panel = new MahoganyHomesHelperPanel(this, configManager, clientThread);
+		shownSackConfidence = null;
 
 		final BufferedImage icon = createPlaceholderIcon(16, 16, Color.WHITE);
 
@@ -216,19 +201,30 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 				.build();
 		clientToolbar.addNavigation(navButton);
 
-		clientThread.invokeLater(this::checkSupplies);
+		clientThread.invokeLater(() -> setNativeOverlay(configSnapshot.isNativeOverlay()));
+		tickInventoryRead = false;
+		suppliesDirty = true;
 
-		clientThread.invokeLater(() -> {
-			Integer count = (Integer) configManager.getRSProfileConfiguration(
-					MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
-					MahoganyHomesHelperConfig.SACK_KEY, int.class);
-			estimatedPlankCount = Optional.ofNullable(count).orElse(-1);
-		});
+		plankSackProfile = null;
+		clientThread.invokeLater(this::loadPlankSack);
 	}
 
 	@Override
 	protected void shutDown() throws Exception {
-		disableAllHelperMarkers();
+		started = false;
+		overrideWatcher.stop();
+		// Keep the last marker state for the next start
+		disableAllHelperMarkers(false);
+		flushMarkerVisibility();
+		writeDeferredMarkerSources();
+		overlayManager.remove(overlay);
+		nativeOverlay = false;
+		mirroredMarkers.clear();
+		log.debug("Marker reconciler: {} reconciliations, {} transitions, {} avoided writes",
+				markerReconciler.getReconciliations(), markerReconciler.getTransitions(),
+				markerReconciler.getAvoidedWrites());
+		plankSackStore.flush();
+		stateFile.close();
 		if (navButton != null) {
 			clientToolbar.removeNavigation(navButton);
 		}
@@ -236,11 +232,12 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event) {
-		if (event.getGameState() == GameState.LOGGED_IN) {
-			Integer count = (Integer) configManager.getRSProfileConfiguration(
-					MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
-					MahoganyHomesHelperConfig.SACK_KEY, int.class);
-			estimatedPlankCount = Optional.ofNullable(count).orElse(-1);
+		if (event.getGameState() == GameState.LOGIN_SCREEN) {
+			flushMarkerVisibility();
+			writeDeferredMarkerSources();
+			plankSackStore.flush();
+		} else if (event.getGameState() == GameState.LOGGED_IN) {
+			loadPlankSack();
 		}
 	}
 
@@ -250,27 +247,15 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 			return;
 		}
 
-		if (checkForUpdate) {
-			checkForUpdate = false;
-			Multiset<Integer> currentInventory = createSnapshot(event.getItemContainer());
-			if (inventorySnapshot != null && currentInventory != null) {
-				Multiset<Integer> deltaMinus = Multisets.difference(currentInventory, inventorySnapshot);
-				Multiset<Integer> deltaPlus = Multisets.difference(inventorySnapshot, currentInventory);
-				int countChange = 0;
-				for (Multiset.Entry<Integer> entry : deltaPlus.entrySet()) {
-					countChange += entry.getCount();
-				}
-				for (Multiset.Entry<Integer> entry : deltaMinus.entrySet()) {
-					countChange -= entry.getCount();
-				}
-
-				if (estimatedPlankCount != -1) {
-					setEstimatedPlankCount(estimatedPlankCount + countChange);
-				}
-			}
+		tickInventory.fill(event.getItemContainer());
+		tickInventoryRead = true;
+		// Materials leaving the inventory outside a sack transfer were used by the build
+		if (!sackLedger.isTransferOpen() && pendingBuild.usedMaterials(tickInventory)) {
+			pendingBuild.confirm(contractCosts, sackLedger);
 		}
+		sackLedger.inventoryChanged(tickInventory);
 
-		checkSupplies();
+		suppliesDirty = true;
 	}
 
 	@Subscribe
@@ -279,8 +264,7 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 				&& (event.getMenuOption().equals("Fill") || event.getMenuOption().equals("Empty")))
 				|| (event.getMenuTarget().equals("<col=ff9040>Plank sack</col>")
 						&& event.getMenuOption().equals("Use"))) {
-			inventorySnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-			checkForUpdate = true;
+			sackLedger.openTransfer(getTickInventory(), client.getTickCount());
 		} else if (event.getMenuOption().equals("Use") && event.getParam1() == 9
 				&& event.getMenuAction() == MenuAction.CC_OP) {
 			ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
@@ -288,85 +272,40 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 				Item[] items = inventory.getItems();
 				int idx = event.getParam0();
 				if (idx >= 0 && idx < items.length && items[idx].getId() == ItemID.PLANK_SACK) {
-					inventorySnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-					checkForUpdate = true;
+					sackLedger.openTransfer(getTickInventory(), client.getTickCount());
 				}
 			}
 		} else if (event.getMenuOption().equals("Use") && event.getMenuAction() == MenuAction.WIDGET_TARGET_ON_WIDGET &&
-				(event.getItemId() == ItemID.PLANK_SACK || PLANKS.contains(event.getItemId()))) {
+				(event.getItemId() == ItemID.PLANK_SACK || SupplySnapshot.isPlank(event.getItemId()))) {
 			ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
 			if (inventory != null) {
 				Widget selectedWidget = client.getSelectedWidget();
 				if (selectedWidget != null) {
 					int selectedItemID = selectedWidget.getItemId();
-					if ((selectedItemID == ItemID.PLANK_SACK && PLANKS.contains(event.getItemId()))
-							|| (PLANKS.contains(selectedItemID) && event.getItemId() == ItemID.PLANK_SACK)) {
-						inventorySnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-						checkForUpdate = true;
+					if ((selectedItemID == ItemID.PLANK_SACK && SupplySnapshot.isPlank(event.getItemId()))
+							|| (SupplySnapshot.isPlank(selectedItemID) && event.getItemId() == ItemID.PLANK_SACK)) {
+						sackLedger.openTransfer(getTickInventory(), client.getTickCount());
 					}
 				}
 			}
 		} else if (event.getMenuTarget().equals("<col=ff9040>Plank sack</col>") &&
 				(event.getMenuOption().equals("Fill from inventory")
 						|| event.getMenuOption().equals("Empty to inventory"))) {
-			inventorySnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-			checkForUpdate = true;
+			sackLedger.openTransfer(getTickInventory(), client.getTickCount());
 		} else if (event.getMenuOption().equals("Repair") || event.getMenuOption().equals("Build")) {
-			try {
-				int gameObjectId = event.getId();
-
-				if (gameObjectId > 0 && gameObjectId == lastClickedGameObjectId) {
-					return; // Debounce
-				}
-
-				PlankType currentPlankType = config.plankType();
-
-				if (gameObjectId <= 0 || currentContractCity == null || currentContractNpc == null
-						|| currentPlankType == null) {
-					return;
-				}
-
-				String furnitureName = FurnitureCostData.getFurnitureNameForGameObjectId(gameObjectId);
-				if (furnitureName == null) {
-					return;
-				}
-
-				FurnitureCostData.FurnitureCost cost = FurnitureCostData.getCost(currentContractCity,
-						currentContractNpc, furnitureName);
-				if (cost == null) {
-					return;
-				}
-
-				int plankCost = cost.getPlankCost();
-				if (plankCost <= 0) {
-					return; // No planks to deduct
-				}
-
-				Multiset<Integer> invSnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-				int planksInInventory = (invSnapshot != null) ? invSnapshot.count(currentPlankType.getItemId()) : 0;
-				int currentSackCount = estimatedPlankCount;
-
-				if (currentSackCount == -1) {
-					return; // Cannot reliably deduct if sack count is unknown
-				}
-
-				int planksNeededFromSack = Math.max(0, plankCost - planksInInventory);
-
-				if (planksNeededFromSack > 0) {
-					if (currentSackCount >= planksNeededFromSack) {
-						int newSackCount = currentSackCount - planksNeededFromSack;
-						setEstimatedPlankCount(newSackCount);
-					} else {
-						setEstimatedPlankCount(0);
-					}
-				}
+			ContractCostTable costs = contractCosts;
+			int slot = costs.find(event.getId());
+			if (slot < 0 || costs.isBuilt(slot)) {
+				return; // Not part of the contract, or already deducted
+			}
 
-			} catch (Exception e) {
-			} finally {
-				if (event.getId() > 0) {
-					lastClickedGameObjectId = event.getId();
-				}
+			PlankType currentPlankType = configSnapshot.getPlankType();
+			if (currentPlankType == null) {
+				return;
 			}
+			// Charged once the inventory shows the build used its materials
+			pendingBuild.start(event.getId(), costs.getCost(slot), currentPlankType, getTickInventory(),
+					client.getTickCount());
 		}
 	}
 
@@ -391,20 +330,15 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 		}
 
 		BuildMenuItem item = buildMenuItems.get(idx);
-		if (item != null && item.canBuild && estimatedPlankCount != -1) {
-			Multiset<Integer> currentInvSnapshot = createSnapshot(client.getItemContainer(InventoryID.INVENTORY));
-			if (currentInvSnapshot != null) {
-				int planksToDeduct = 0;
+		if (item != null && item.canBuild) {
+			SupplySnapshot currentInvSnapshot = getTickInventory();
+			if (currentInvSnapshot.isLoaded()) {
 				for (Item i : item.planks) {
-					if (!currentInvSnapshot.contains(i.getId())) {
-						planksToDeduct += i.getQuantity();
-					} else if (currentInvSnapshot.count(i.getId()) < i.getQuantity()) {
-						planksToDeduct += i.getQuantity() - currentInvSnapshot.count(i.getId());
+					int inInventory = currentInvSnapshot.getPlanks(i.getId());
+					if (inInventory < i.getQuantity()) {
+						sackLedger.deduct(SupplySnapshot.plankTypeOf(i.getId()), i.getQuantity() - inInventory);
 					}
 				}
-				if (planksToDeduct > 0) {
-					setEstimatedPlankCount(estimatedPlankCount - planksToDeduct);
-				}
 			}
 		}
 
@@ -446,7 +380,7 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 										try {
 											int count = Integer.parseInt(data[1]);
 											if (PLANK_NAMES.contains(name)) {
-												materials.add(new Item(PLANKS.get(PLANK_NAMES.indexOf(name)), count));
+												materials.add(new Item(PLANK_TYPES[PLANK_NAMES.indexOf(name)].getItemId(), count));
 											}
 										} catch (NumberFormatException e) {
 										}
@@ -462,6 +396,37 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 			}
 			menuItemsToCheck = 0;
 		}
+
+		pendingBuild.expire(client.getTickCount());
+		if (sackLedger.commit(client.getTickCount())) {
+			savePlankSack();
+			log.debug("Plank sack: {} ({})", plankSack.encode(), sackLedger.getConfidence());
+		}
+		if (suppliesDirty) {
+			suppliesDirty = false;
+			checkSupplies();
+		}
+		flushMarkerVisibility();
+		updatePlankSackLabel();
+		tickInventoryRead = false;
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event) {
+		// Deferred marker state belonged to the previous profile's config
+		deferredMarkerSources.clear();
+		markerCatalog.invalidateAll();
+		markerPluginAdapter.invalidateAll();
+		markerReconciler.invalidate();
+		// Unwritten estimates can no longer be stored in the previous profile
+		plankSackStore.clear();
+		plankSackProfile = null;
+		clientThread.invokeLater(this::loadPlankSack);
+	}
+
+	@Subscribe
+	public void onPluginChanged(PluginChanged event) {
+		markerPluginAdapter.resolve();
 	}
 
 	@Subscribe
@@ -471,103 +436,80 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 
 	@Subscribe
 	public void onChatMessage(ChatMessage event) {
-		if (event.getType() == ChatMessageType.GAMEMESSAGE || event.getType() == ChatMessageType.DIALOG) {
-			String messageText = event.getMessage();
-			Matcher matcher = CONTRACT_PATTERN.matcher(messageText);
-			if (matcher.find()) {
-				String npc = matcher.group(1);
-				String cityRaw = matcher.group(2);
-
-				if (npc != null && cityRaw != null) {
-					String npcTrimmed = npc.trim();
-					String cityNormalized = cityRaw.toLowerCase().replace(" market", "");
-					handleNewContract(npcTrimmed, cityNormalized);
-				}
-			}
-		}
-
-		if (event.getType() == ChatMessageType.GAMEMESSAGE) {
-			String message = Text.removeTags(event.getMessage());
-			if (message.startsWith("Basic&#160;planks:")) {
-				try {
-					int totalCount = Arrays.stream(message.split(","))
-							.mapToInt(s -> Integer.parseInt(s.split(":&#160;")[1].trim()))
-							.sum();
-					setEstimatedPlankCount(totalCount);
-					checkForUpdate = false;
-				} catch (Exception e) {
+		switch (chatClassifier.classify(event.getType(), event.getMessage())) {
+			case CONTRACT:
+				handleNewContract(chatClassifier.getCity(), chatClassifier.getNpc());
+				break;
+			case SACK_CONTENTS:
+				// Counts are listed in PlankType order: basic, oak, teak, mahogany
+				sackLedger.confirm(chatClassifier.getCounts());
+				break;
+			case SACK_NOTHING_TO_ADD:
+				sackLedger.resolveTransfer();
+				break;
+			case SACK_FULL:
+				PlankType plankType = configSnapshot.getPlankType();
+				if (plankType != null) {
+					sackLedger.confirmFull(plankType);
+				} else {
+					sackLedger.resolveTransfer();
 				}
-			} else if (message.equals("You haven't got any planks that can go in the sack.")) {
-				checkForUpdate = false;
-			} else if (message.equals("Your sack is full.")) {
-				setEstimatedPlankCount(28);
-				checkForUpdate = false;
-				checkSupplies();
-			} else if (message.equals("Your sack is empty.")) {
-				setEstimatedPlankCount(0);
-				checkForUpdate = false;
-				checkSupplies();
-			}
+				break;
+			case SACK_EMPTY:
+				sackLedger.confirmEmpty();
+				break;
+			default:
+				break;
 		}
 	}
 
-	private void handleNewContract(String npc, String city) {
+	private void handleNewContract(City city, ContractNpc npc) {
 		currentContractCity = city;
 		currentContractNpc = npc;
-		lastClickedGameObjectId = -1;
+		contractCosts = ContractCostTable.build(npc);
+		pendingBuild.clear();
+		stateFile.writeStrings(PluginStateFile.Record.CONTRACT, configManager.getRSProfileKey(), city.name(),
+				npc != null ? npc.name() : null);
 
-		if (config.dynamicMinimums()) {
+		if (configSnapshot.isDynamicMinimums()) {
 			fetchAndUpdateDynamicSpinners();
 		}
 
-		if (!"varrock".equals(city)) {
-			disableMarker(parseMarkerInfoString(config.varrockMarkerInfo()));
-		}
-		if (!"falador".equals(city)) {
-			disableMarker(parseMarkerInfoString(config.faladorMarkerInfo()));
-		}
-		if (!"ardougne".equals(city)) {
-			disableMarker(parseMarkerInfoString(config.ardougneMarkerInfo()));
-		}
-		if (!"hosidius".equals(city)) {
-			disableMarker(parseMarkerInfoString(config.hosidiusMarkerInfo()));
-		}
+		updateCityMarkers();
+	}
 
-		String markerInfoString;
-		switch (city) {
-			case "varrock":
-				markerInfoString = config.varrockMarkerInfo();
-				break;
-			case "falador":
-				markerInfoString = config.faladorMarkerInfo();
-				break;
-			case "ardougne":
-				markerInfoString = config.ardougneMarkerInfo();
-				break;
-			case "hosidius":
-				markerInfoString = config.hosidiusMarkerInfo();
-				break;
-			default:
-				currentCityMarker = null;
-				checkSupplies();
-				return;
+	/**
+	 * Picks up furniture costs changed by an override file for the current
+	 * contract, keeping the hotspots already built.
+	 */
+	private void furnitureDataChanged() {
+		if (!started) {
+			return;
 		}
+		contractCosts = ContractCostTable.rebuild(currentContractNpc, contractCosts);
+		fetchAndUpdateDynamicSpinners();
+		suppliesDirty = true;
+	}
 
-		MarkerInfo markerToActivate = parseMarkerInfoString(markerInfoString);
-
-		if (markerToActivate != null && markerToActivate.getId() >= 0) {
-			setMarkerVisibility(markerToActivate.getId(), markerToActivate.getSourcePluginKey(),
-					markerToActivate.getGroupName(), true);
-			currentCityMarker = markerToActivate;
-		} else {
-			currentCityMarker = null;
+	/**
+	 * Shows the marker for the current contract city, hides the other city
+	 * markers and re-evaluates the supply markers.
+	 */
+	private void updateCityMarkers() {
+		City city = currentContractCity;
+		for (City c : City.values()) {
+			markerReconciler.setDesired(c.getMarkerSlot(), c == city);
 		}
-
-		checkSupplies();
+		suppliesDirty = true;
 	}
 
+	/**
+	 * Compares the current supplies against the minimums and reconciles every
+	 * marker. Runs from {@link #onGameTick} when an input has changed.
+	 */
 	private void checkSupplies() {
-		PlankType selectedPlank = config.plankType();
+		ConfigSnapshot snapshot = configSnapshot;
+		PlankType selectedPlank = snapshot.getPlankType();
 		if (selectedPlank == null) {
 			return;
 		}
@@ -575,313 +517,339 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 		int minPlanks;
 		int minBars;
 
-		if (config.dynamicMinimums() && currentContractNpc != null) {
-			Point dynamicReqs = getCurrentDynamicMaximums();
-			if (dynamicReqs != null) {
-				minPlanks = dynamicReqs.x;
-				minBars = dynamicReqs.y;
-			} else {
-				minPlanks = config.minPlanks();
-				minBars = config.minSteelBars();
-			}
+		ContractNpc npc = currentContractNpc;
+		if (snapshot.isDynamicMinimums() && npc != null) {
+			int requirements = ContractRequirements.get(npc, selectedPlank);
+			minPlanks = ContractRequirements.getPlanks(requirements);
+			minBars = ContractRequirements.getSteelBars(requirements);
 		} else {
-			minPlanks = config.minPlanks();
-			minBars = config.minSteelBars();
+			minPlanks = snapshot.getMinPlanks();
+			minBars = snapshot.getMinSteelBars();
 		}
 
-		int inventoryPlankCount = getInventoryItemCount(selectedPlank.getItemId());
-		int plankSackCount = (estimatedPlankCount == -1) ? 0 : estimatedPlankCount;
+		SupplySnapshot inventory = getTickInventory();
+		int inventoryPlankCount = inventory.getPlanks(selectedPlank);
+		int plankSackCount = plankSack.get(selectedPlank);
 		int totalPlankCount = inventoryPlankCount + plankSackCount;
-		int steelBarCount = getInventoryItemCount(ItemID.STEEL_BAR);
+		int steelBarCount = inventory.getSteelBars();
 
 		boolean lowPlanks = totalPlankCount < minPlanks;
 		boolean lowSteel = steelBarCount < minBars;
 
-		MarkerInfo lowPlanksMarker = parseMarkerInfoString(config.lowPlanksMarkerInfo());
-		MarkerInfo lowSteelMarker = parseMarkerInfoString(config.lowSteelMarkerInfo());
-
-		updateMarkerVisibilityBasedOnCondition(lowPlanksMarker, lowPlanks);
-		updateMarkerVisibilityBasedOnCondition(lowSteelMarker, lowSteel);
+		markerReconciler.setDesired(MarkerSlot.LOW_PLANKS, lowPlanks);
+		markerReconciler.setDesired(MarkerSlot.LOW_STEEL, lowSteel);
+		reconcileMarkers();
 	}
 
-	private void updateMarkerVisibilityBasedOnCondition(MarkerInfo markerInfo, boolean conditionMet) {
-		if (markerInfo != null && markerInfo.getId() >= 0) {
-			if (conditionMet) {
-				enableMarker(markerInfo);
-			} else {
-				if (currentCityMarker == null || markerInfo.getId() != currentCityMarker.getId()) {
-					disableMarker(markerInfo);
-				}
+	/**
+	 * Applies the desired visibility of every slot, emitting only the changes
+	 * that differ from the markers' actual visibility.
+	 */
+	private void reconcileMarkers() {
+		markerReconciler.reconcile(configSnapshot.getMarkerBindings(), this::applyMarkerVisibility);
+
+		int markerState = 0;
+		for (MarkerSlot slot : MarkerSlot.values()) {
+			if (markerReconciler.isDesired(slot)) {
+				markerState |= 1 << slot.ordinal();
 			}
 		}
+		String profile = plankSackProfile;
+		if (profile != null && (markerState != storedMarkerState || !profile.equals(storedMarkerProfile))) {
+			storedMarkerState = markerState;
+			storedMarkerProfile = profile;
+			stateFile.writeStrings(PluginStateFile.Record.MARKERS, profile, Integer.toString(markerState));
+		}
 	}
 
-	private void enableMarker(MarkerInfo markerInfo) {
-		if (markerInfo != null && markerInfo.getId() >= 0) {
-			setMarkerVisibility(markerInfo.getId(), markerInfo.getSourcePluginKey(), markerInfo.getGroupName(),
-					true);
+	/**
+	 * Restores the marker state saved before the last shutdown or crash, if it
+	 * belongs to the RuneScape profile logged in. The contract is restored by
+	 * {@link #loadContract(String)} once the RuneScape profile is known.
+	 */
+	private void restoreState() {
+		currentContractCity = null;
+		currentContractNpc = null;
+		contractCosts = ContractCostTable.EMPTY;
+		pendingBuild.clear();
+		storedMarkerState = -1;
+		storedMarkerProfile = null;
+		if (!stateFile.open()) {
+			return;
 		}
-	}
 
-	private void disableMarker(MarkerInfo markerInfo) {
-		if (markerInfo != null && markerInfo.getId() >= 0) {
-			setMarkerVisibility(markerInfo.getId(), markerInfo.getSourcePluginKey(), markerInfo.getGroupName(), false);
+		String profile = configManager.getRSProfileKey();
+		String[] saved = stateFile.readStrings(PluginStateFile.Record.MARKERS, 2);
+		if (saved == null || profile == null || !profile.equals(saved[0]) || saved[1] == null) {
+			return;
+		}
+		int markerState;
+		try {
+			markerState = Integer.parseInt(saved[1]);
+		} catch (NumberFormatException e) {
+			return;
+		}
+		for (MarkerSlot slot : MarkerSlot.values()) {
+			markerReconciler.setDesired(slot, (markerState & (1 << slot.ordinal())) != 0);
 		}
+		storedMarkerState = markerState;
+		storedMarkerProfile = profile;
 	}
 
-	private void disableAllHelperMarkers() {
-		disableMarker(parseMarkerInfoString(config.varrockMarkerInfo()));
-		disableMarker(parseMarkerInfoString(config.faladorMarkerInfo()));
-		disableMarker(parseMarkerInfoString(config.ardougneMarkerInfo()));
-		disableMarker(parseMarkerInfoString(config.hosidiusMarkerInfo()));
-		disableMarker(parseMarkerInfoString(config.lowPlanksMarkerInfo()));
-		disableMarker(parseMarkerInfoString(config.lowSteelMarkerInfo()));
-		currentCityMarker = null;
+	private void applyMarkerVisibility(MarkerInfo markerInfo, boolean visible) {
+		if (nativeOverlay) {
+			MirroredMarker marker = mirroredMarkers.get(markerInfo);
+			if (marker != null) {
+				marker.setVisible(visible);
+			}
+			return;
+		}
+		setMarkerVisibility(markerInfo.getId(), markerInfo.getSourcePluginKey(), markerInfo.getGroupName(), visible);
 	}
 
-	public List<MarkerInfo> getAllAvailableMarkers() {
-		List<MarkerInfo> allMarkers = new ArrayList<>();
-		Type screenMarkerListType = new TypeToken<List<MarkerPojo>>() {
-		}.getType();
-		Type screenGroupMapType = new TypeToken<java.util.Map<String, List<MarkerPojo>>>() {
-		}.getType();
-		java.util.Set<Long> importedMarkerIds = new java.util.HashSet<>();
-
-		String groupMarkersJson = configManager.getConfiguration(SCREEN_MARKER_GROUPS_CONFIG_GROUP,
-				SCREEN_MARKER_GROUPS_KEY);
-		if (groupMarkersJson != null && !groupMarkersJson.isEmpty()) {
-			try {
-				java.util.Map<String, List<MarkerPojo>> groupsMap = gson.fromJson(groupMarkersJson,
-						screenGroupMapType);
-				if (groupsMap != null) {
-					for (java.util.Map.Entry<String, List<MarkerPojo>> entry : groupsMap.entrySet()) {
-						String groupName = entry.getKey();
-						List<MarkerPojo> markersInGroup = entry.getValue();
-						if (markersInGroup != null) {
-							for (MarkerPojo m : markersInGroup) {
-								allMarkers.add(
-										new MarkerInfo(m.id, m.name, groupName, SCREEN_MARKER_GROUPS_KEY));
-								if (m.importedId != null) {
-									importedMarkerIds.add(m.importedId);
-								}
-							}
-						}
-					}
-				}
-			} catch (JsonSyntaxException e) {
-			}
+	/**
+	 * @param persist false to leave the stored marker state unchanged, so the
+	 *                markers are restored on the next start.
+	 */
+	private void disableAllHelperMarkers(boolean persist) {
+		for (MarkerSlot slot : MarkerSlot.values()) {
+			markerReconciler.setDesired(slot, false);
+		}
+		if (persist) {
+			reconcileMarkers();
+		} else {
+			markerReconciler.reconcile(configSnapshot.getMarkerBindings(), this::applyMarkerVisibility);
 		}
+	}
 
-		String baseMarkersJson = configManager.getConfiguration(SCREEN_MARKER_CONFIG_GROUP,
-				SCREEN_MARKER_MARKERS_KEY);
-		if (baseMarkersJson != null && !baseMarkersJson.isEmpty()) {
-			try {
-				List<MarkerPojo> baseMarkers = gson.fromJson(baseMarkersJson, screenMarkerListType);
-				if (baseMarkers != null) {
-					for (MarkerPojo m : baseMarkers) {
-						if (!importedMarkerIds.contains(m.id)) {
-							allMarkers.add(new MarkerInfo(m.id, m.name, null, SCREEN_MARKER_MARKERS_KEY));
-						}
-					}
-				}
-			} catch (JsonSyntaxException e) {
-			}
+	/**
+	 * @return The current config snapshot, shared with the panel.
+	 */
+	ConfigSnapshot getConfigSnapshot() {
+		return configSnapshot;
+	}
+
+	/**
+	 * Binds a marker to a slot. All bindings are rewritten together as a single
+	 * config entry.
+	 * Must be called on the client thread.
+	 *
+	 * @param slot   The slot to change.
+	 * @param marker The marker to bind, or null to clear the slot.
+	 */
+	void setMarkerBinding(MarkerSlot slot, MarkerInfo marker) {
+		MarkerBindings bindings = configSnapshot.getMarkerBindings().with(slot, marker);
+		configManager.setConfiguration(CONFIG_GROUP, MarkerBindings.CONFIG_KEY, bindings.toJson(gson));
+	}
+
+	/**
+	 * Reads the current visibility of a marker from the mirrored markers or the
+	 * marker catalog.
+	 *
+	 * @param markerInfo The marker identity.
+	 * @return The visibility, or null if the marker does not exist.
+	 */
+	private Boolean lookupMarkerVisibility(MarkerInfo markerInfo) {
+		if (nativeOverlay) {
+			MirroredMarker marker = mirroredMarkers.get(markerInfo);
+			return marker != null ? marker.isVisible() : null;
 		}
+		ScreenMarkerCatalog.MarkerPojo stored = markerCatalog.find(markerInfo);
+		return stored != null ? stored.visible : null;
+	}
 
-		allMarkers.sort((m1, m2) -> m1.getDisplayName().compareToIgnoreCase(m2.getDisplayName()));
-		return allMarkers;
+	public List<MarkerInfo> getAllAvailableMarkers() {
+		return markerCatalog.getAvailableMarkers();
 	}
 
+	/**
+	 * Queues a visibility change for a screen marker. Changes requested during a
+	 * tick are coalesced and written by {@link #flushMarkerVisibility()}, so each
+	 * config group is parsed, serialized and saved at most once per tick. In
+	 * native overlay mode only the mirrored marker is updated.
+	 *
+	 * @param markerId          The ID of the marker.
+	 * @param sourcePluginKey   The config key the marker is stored under.
+	 * @param sourcePluginGroup The Screen Marker Groups group name, or null.
+	 * @param visible           The requested visibility.
+	 */
 	public void setMarkerVisibility(long markerId, String sourcePluginKey, String sourcePluginGroup, boolean visible) {
 		if (markerId < 0 || sourcePluginKey == null) {
 			return;
 		}
 
-		String configGroup;
-		String configKey = sourcePluginKey;
-		boolean found = false;
-
-		if (SCREEN_MARKER_MARKERS_KEY.equals(configKey)) {
-			configGroup = SCREEN_MARKER_CONFIG_GROUP;
-		} else if (SCREEN_MARKER_GROUPS_KEY.equals(configKey)) {
-			configGroup = SCREEN_MARKER_GROUPS_CONFIG_GROUP;
-		} else {
+		if (nativeOverlay) {
+			applyMarkerVisibility(new MarkerInfo(markerId, null, sourcePluginGroup, sourcePluginKey), visible);
 			return;
 		}
 
-		String json = configManager.getConfiguration(configGroup, configKey);
-		final String oldValueJson = (json == null) ? "" : json;
+		if (SCREEN_MARKER_MARKERS_KEY.equals(sourcePluginKey)) {
+			pendingMarkerChanges.put(markerId, visible);
+		} else if (SCREEN_MARKER_GROUPS_KEY.equals(sourcePluginKey) && sourcePluginGroup != null) {
+			pendingGroupMarkerChanges.computeIfAbsent(sourcePluginGroup, k -> new LinkedHashMap<>())
+					.put(markerId, visible);
+		}
+	}
 
-		if (oldValueJson.isEmpty() && !visible) {
-			return; // Cannot disable if config is empty/null
+	/**
+	 * Writes all queued marker visibility changes, performing at most one patch,
+	 * write and {@link ConfigChanged} per config group.
+	 */
+	private void flushMarkerVisibility() {
+		if (!pendingMarkerChanges.isEmpty()) {
+			Map<MarkerInfo, Boolean> applied = new LinkedHashMap<>();
+			String json = markerCatalog.getJson(SCREEN_MARKER_MARKERS_KEY);
+			String updatedJson = ScreenMarkerJsonPatcher.patchMarkerList(json, pendingMarkerChanges,
+					(group, id, visible) -> applied.put(new MarkerInfo(id, null, null, SCREEN_MARKER_MARKERS_KEY),
+							visible));
+			pendingMarkerChanges.clear();
+			writeMarkerSource(SCREEN_MARKER_CONFIG_GROUP, SCREEN_MARKER_MARKERS_KEY, updatedJson, applied);
 		}
-		if (oldValueJson.isEmpty() && visible) {
-			return;
+		if (!pendingGroupMarkerChanges.isEmpty()) {
+			Map<MarkerInfo, Boolean> applied = new LinkedHashMap<>();
+			String json = markerCatalog.getJson(SCREEN_MARKER_GROUPS_KEY);
+			String updatedJson = ScreenMarkerJsonPatcher.patchMarkerGroups(json, pendingGroupMarkerChanges,
+					(group, id, visible) -> applied.put(new MarkerInfo(id, null, group, SCREEN_MARKER_GROUPS_KEY),
+							visible));
+			pendingGroupMarkerChanges.clear();
+			writeMarkerSource(SCREEN_MARKER_GROUPS_CONFIG_GROUP, SCREEN_MARKER_GROUPS_KEY, updatedJson, applied);
 		}
+	}
 
-		try {
-			if (SCREEN_MARKER_MARKERS_KEY.equals(configKey)) {
-				Type screenMarkerListType = new TypeToken<List<MarkerPojo>>() {
-				}.getType();
-				List<MarkerPojo> markers = gson.fromJson(json, screenMarkerListType);
-				if (markers != null) {
-					for (MarkerPojo marker : markers) {
-						if (marker.id == markerId) {
-							if (marker.visible == visible)
-								return; // No change needed
-							marker.visible = visible;
-							found = true;
-							break;
-						}
-					}
-					if (found) {
-						String updatedJson = gson.toJson(markers, screenMarkerListType);
-						if (!updatedJson.equals(oldValueJson)) {
-							configManager.setConfiguration(configGroup, configKey, updatedJson);
-							fireConfigChanged(configGroup, configKey, oldValueJson, updatedJson);
-							updateLiveMarkerState(markerId, sourcePluginKey, sourcePluginGroup, visible);
-						}
-					}
-				}
-			} else { // SCREEN_MARKER_GROUPS_KEY
-				Type screenGroupMapType = new TypeToken<java.util.Map<String, List<MarkerPojo>>>() {
-				}.getType();
-				java.util.Map<String, List<MarkerPojo>> groupsMap = gson.fromJson(json, screenGroupMapType);
+	private void writeMarkerSource(String configGroup, String configKey, String updatedJson,
+			Map<MarkerInfo, Boolean> applied) {
+		if (updatedJson == null || applied.isEmpty()) {
+			return; // No change needed
+		}
 
-				if (sourcePluginGroup == null) {
-					return;
-				}
+		markerCatalog.recordWrite(configKey, updatedJson, applied);
+		if (configSnapshot.isQuietMarkerUpdates() && applyLiveMarkerState(applied)) {
+			// The marker plugin already shows the change; store it with one write later
+			deferredMarkerSources.put(configKey, configGroup);
+			return;
+		}
 
-				if (groupsMap != null && groupsMap.containsKey(sourcePluginGroup)) {
-					List<MarkerPojo> markersInGroup = groupsMap.get(sourcePluginGroup);
-					if (markersInGroup != null) {
-						for (MarkerPojo marker : markersInGroup) {
-							if (marker.id == markerId) {
-								if (marker.visible == visible)
-									return; // No change needed
-								marker.visible = visible;
-								found = true;
-								break;
-							}
-						}
-					}
-				}
+		deferredMarkerSources.remove(configKey);
+		// setConfiguration posts the ConfigChanged the marker plugin reloads from
+		configManager.setConfiguration(configGroup, configKey, updatedJson);
+		applyLiveMarkerState(applied);
+	}
 
-				if (found) {
-					String updatedJson = gson.toJson(groupsMap, screenGroupMapType);
-					if (!updatedJson.equals(oldValueJson)) {
-						configManager.setConfiguration(configGroup, configKey, updatedJson);
-						fireConfigChanged(configGroup, configKey, oldValueJson, updatedJson);
-						updateLiveMarkerState(markerId, sourcePluginKey, sourcePluginGroup, visible);
-					}
-				}
+	/**
+	 * Applies visibility changes directly to the marker plugin's live markers.
+	 *
+	 * @param applied The visibility changes.
+	 * @return true if every marker was found and updated.
+	 */
+	private boolean applyLiveMarkerState(Map<MarkerInfo, Boolean> applied) {
+		boolean allApplied = true;
+		for (Map.Entry<MarkerInfo, Boolean> entry : applied.entrySet()) {
+			allApplied &= markerPluginAdapter.setVisible(entry.getKey(), entry.getValue());
+		}
+		return allApplied;
+	}
+
+	/**
+	 * Stores marker sources whose changes were only applied live. The write posts
+	 * a single {@link ConfigChanged} per source, so other plugins see the
+	 * consolidated state.
+	 */
+	private void writeDeferredMarkerSources() {
+		for (Map.Entry<String, String> entry : deferredMarkerSources.entrySet()) {
+			String json = markerCatalog.getJson(entry.getKey());
+			if (json != null) {
+				configManager.setConfiguration(entry.getValue(), entry.getKey(), json);
 			}
-		} catch (JsonSyntaxException e) {
 		}
+		deferredMarkerSources.clear();
 	}
 
-	private void updateLiveMarkerState(long markerId, String sourcePluginKey, String sourcePluginGroup,
-			boolean visible) {
-		java.util.Collection<Plugin> plugins = pluginManager.getPlugins();
+	/**
+	 * Switches between toggling the bound markers in the Screen Marker plugins
+	 * and drawing copies of them with {@link MahoganyHomesHelperOverlay}.
+	 *
+	 * @param enabled true to draw the markers natively.
+	 */
+	private void setNativeOverlay(boolean enabled) {
+		if (enabled == nativeOverlay) {
+			return;
+		}
 
-		if (SCREEN_MARKER_MARKERS_KEY.equals(sourcePluginKey)) {
-			plugins.stream()
-					.filter(p -> p.getClass().getName()
-							.equals("net.runelite.client.plugins.screenmarkers.ScreenMarkerPlugin"))
-					.findFirst()
-					.ifPresent(plugin -> {
-						try {
-							Method getMarkersMethod = plugin.getClass().getMethod("getScreenMarkers");
-							List<?> overlays = (List<?>) getMarkersMethod.invoke(plugin);
-							for (Object overlay : overlays) {
-								Method getMarkerMethod = overlay.getClass().getMethod("getMarker");
-								Object marker = getMarkerMethod.invoke(overlay);
-								Method getIdMethod = marker.getClass().getMethod("getId");
-								long id = (long) getIdMethod.invoke(marker);
-								if (id == markerId) {
-									Method setVisibleMethod = marker.getClass().getMethod("setVisible",
-											boolean.class);
-									setVisibleMethod.invoke(marker, visible);
-									break;
-								}
-							}
-						} catch (Exception e) {
-						}
-					});
-		} else if (SCREEN_MARKER_GROUPS_KEY.equals(sourcePluginKey)) {
-			plugins.stream()
-					.filter(p -> p.getClass().getName()
-							.equals("screenmarkergroups.ScreenMarkerGroupsPlugin"))
-					.findFirst()
-					.ifPresent(plugin -> {
-						try {
-							Field groupsField = plugin.getClass().getDeclaredField("markerGroups");
-							groupsField.setAccessible(true);
-							@SuppressWarnings("unchecked")
-							Map<String, List<?>> groupsMap = (Map<String, List<?>>) groupsField
-									.get(plugin);
-
-							if (groupsMap != null && sourcePluginGroup != null
-									&& groupsMap.containsKey(sourcePluginGroup)) {
-								List<?> overlaysInGroup = groupsMap.get(sourcePluginGroup);
-								if (overlaysInGroup != null) {
-									for (Object overlay : overlaysInGroup) {
-										Method getMarkerMethod = overlay.getClass()
-												.getMethod("getMarker");
-										Object marker = getMarkerMethod.invoke(overlay);
-										Method getIdMethod = marker.getClass().getMethod("getId");
-										long id = (long) getIdMethod.invoke(marker);
-										if (id == markerId) {
-											Method setVisibleMethod = marker.getClass()
-													.getMethod("setVisible", boolean.class);
-											setVisibleMethod.invoke(marker, visible);
-											break;
-										}
-									}
-								}
-							}
-						} catch (Exception e) {
-						}
-					});
+		if (enabled) {
+			// Hide the originals once so they aren't drawn twice
+			disableAllHelperMarkers(true);
+			flushMarkerVisibility();
+			nativeOverlay = true;
+			importMirroredMarkers();
+			overlayManager.add(overlay);
+		} else {
+			overlayManager.remove(overlay);
+			nativeOverlay = false;
+			mirroredMarkers.clear();
 		}
+		markerReconciler.invalidate();
+		updateCityMarkers();
 	}
 
-	private void fireConfigChanged(String group, String key, String oldValue, String newValue) {
-		ConfigChanged event = new ConfigChanged();
-		event.setGroup(group);
-		event.setKey(key);
-		event.setOldValue(oldValue);
-		event.setNewValue(newValue);
-		eventBus.post(event);
+	/**
+	 * Copies the rectangle, colours and border of every bound marker from the
+	 * Screen Marker plugins, keeping the current visibility of markers that were
+	 * already mirrored.
+	 */
+	private void importMirroredMarkers() {
+		Map<MarkerInfo, MirroredMarker> imported = new HashMap<>();
+		MarkerBindings bindings = configSnapshot.getMarkerBindings();
+		for (MarkerSlot slot : MarkerSlot.values()) {
+			MarkerInfo markerInfo = bindings.get(slot);
+			if (markerInfo == null || imported.containsKey(markerInfo)) {
+				continue;
+			}
+			MirroredMarker marker = importMarker(markerInfo);
+			if (marker != null) {
+				MirroredMarker previous = mirroredMarkers.get(markerInfo);
+				marker.setVisible(previous != null && previous.isVisible());
+				imported.put(markerInfo, marker);
+			}
+		}
+		mirroredMarkers.clear();
+		mirroredMarkers.putAll(imported);
 	}
 
-	private MarkerInfo parseMarkerInfoString(String info) {
-		if (info == null || info.isEmpty()) {
+	private MirroredMarker importMarker(MarkerInfo markerInfo) {
+		ScreenMarkerCatalog.MarkerPojo stored = markerCatalog.find(markerInfo);
+		Overlay markerOverlay = markerPluginAdapter.getOverlay(markerInfo);
+		if (stored == null || markerOverlay == null) {
 			return null;
 		}
-		String[] parts = info.split("\\" + INFO_SEPARATOR, 3);
-		if (parts.length != 3) {
-			return null;
-		}
-		try {
-			String key = parts[0];
-			String group = "null".equalsIgnoreCase(parts[1]) ? null : parts[1];
-			long id = Long.parseLong(parts[2]);
-			if (id < 0) {
-				return null;
-			}
-			return new MarkerInfo(id, null, group, key);
-		} catch (NumberFormatException e) {
+
+		Point location = markerOverlay.getPreferredLocation();
+		Dimension size = markerOverlay.getPreferredSize();
+		Rectangle bounds = (location != null && size != null) ? new Rectangle(location, size)
+				: markerOverlay.getBounds();
+		if (bounds == null || bounds.isEmpty()) {
 			return null;
 		}
+		return new MirroredMarker(new Rectangle(bounds), stored.color, stored.fill, stored.borderThickness);
 	}
 
-	private int getInventoryItemCount(int itemId) {
-		ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
-		if (inventory == null) {
-			return 0;
+	/**
+	 * @return The markers drawn in native overlay mode, keyed by marker identity.
+	 */
+	Map<MarkerInfo, MirroredMarker> getMirroredMarkers() {
+		return mirroredMarkers;
+	}
+
+	/**
+	 * @return The plank and steel bar counts of the inventory, shared by every
+	 *         consumer until the inventory changes or the tick ends. Empty and
+	 *         not loaded if the inventory is not loaded.
+	 */
+	private SupplySnapshot getTickInventory() {
+		if (!tickInventoryRead) {
+			tickInventory.fill(client.getItemContainer(InventoryID.INVENTORY));
+			tickInventoryRead = true;
 		}
-		return inventory.count(itemId);
+		return tickInventory;
 	}
 
 	private BufferedImage createPlaceholderIcon(int width, int height, Color color) {
@@ -896,59 +864,170 @@ public class MahoganyHomesHelperPlugin extends Plugin {
 		return image;
 	}
 
-	private void setEstimatedPlankCount(int count) {
-		if (count != -1) {
-			estimatedPlankCount = Ints.constrainToRange(count, 0, 28);
-		} else {
-			estimatedPlankCount = -1;
+	/**
+	 * Restores the plank sack estimate of the current RuneScape profile, unless
+	 * it is already loaded (e.g. after a world hop). A count stored in the former
+	 * summed format is attributed to the selected plank type, which is how it was
+	 * used.
+	 */
+	private void loadPlankSack() {
+		String profile = configManager.getRSProfileKey();
+		if (profile != null && profile.equals(plankSackProfile)) {
+			return;
+		}
+		plankSackProfile = profile;
+		loadContract(profile);
+		if (profile == null) {
+			plankSack.reset();
+			sackLedger.reset();
+			suppliesDirty = true;
+			return;
 		}
-		configManager.setRSProfileConfiguration(MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
-				MahoganyHomesHelperConfig.SACK_KEY, estimatedPlankCount);
-		clientThread.invokeLater(this::checkSupplies);
+
+		boolean firstLoad = !plankSackStore.contains(profile);
+		String stored = plankSackStore.get(profile);
+		// The state file is written on every change, so it is at least as new as config
+		String[] saved = stateFile.readStrings(PluginStateFile.Record.PLANK_SACK, 2);
+		if (saved != null && profile.equals(saved[0])) {
+			stored = saved[1];
+			plankSackStore.put(profile, stored != null ? stored : "");
+		}
+		if (!plankSack.decode(stored) && stored == null && firstLoad) {
+			Integer legacy = (Integer) configManager.getRSProfileConfiguration(
+					MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
+					MahoganyHomesHelperConfig.LEGACY_SACK_KEY, int.class);
+			PlankType plankType = configSnapshot.getPlankType();
+			if (legacy != null && legacy >= 0 && plankType != null) {
+				plankSack.clear();
+				plankSack.set(plankType, legacy);
+				savePlankSack();
+				configManager.unsetRSProfileConfiguration(MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
+						MahoganyHomesHelperConfig.LEGACY_SACK_KEY);
+			}
+		}
+		sackLedger.reset();
+		suppliesDirty = true;
 	}
 
-	private Multiset<Integer> createSnapshot(ItemContainer container) {
-		if (container == null) {
-			return null;
+	/**
+	 * Restores the contract saved for a RuneScape profile, forgetting the
+	 * contract of any other profile.
+	 *
+	 * @param profile The RuneScape profile key, or null if not logged in.
+	 */
+	private void loadContract(String profile) {
+		City city = null;
+		ContractNpc npc = null;
+		String[] saved = stateFile.readStrings(PluginStateFile.Record.CONTRACT, 3);
+		if (saved != null && profile != null && profile.equals(saved[0])) {
+			city = City.fromName(saved[1]);
+			npc = ContractNpc.find(city, saved[2]);
 		}
-		Multiset<Integer> snapshot = HashMultiset.create();
-		Arrays.stream(container.getItems())
-				.filter(item -> item != null && PLANKS.contains(item.getId()))
-				.forEach(i -> snapshot.add(i.getId(), i.getQuantity()));
-		return snapshot;
+		if (city == currentContractCity && npc == currentContractNpc) {
+			return;
+		}
+
+		currentContractCity = city;
+		currentContractNpc = npc;
+		contractCosts = ContractCostTable.build(npc);
+		pendingBuild.clear();
+		fetchAndUpdateDynamicSpinners();
+		updateCityMarkers();
 	}
 
-	private Point getCurrentDynamicMaximums() {
-		if (currentContractNpc == null || currentContractCity == null || config.plankType() == null) {
-			return null;
+	/**
+	 * Shows the plank sack estimate and how far it can be trusted in the panel,
+	 * if either changed since it was last shown.
+	 */
+	private void updatePlankSackLabel() {
+		int total = plankSack.isKnown() ? plankSack.getTotal() : -1;
+		SackLedger.Confidence confidence = sackLedger.getConfidence();
+		if (panel == null || (total == shownSackTotal && confidence == shownSackConfidence)) {
+			return;
+		}
+		shownSackTotal = total;
+		shownSackConfidence = confidence;
+		panel.updatePlankSack(total, confidence);
+	}
+
+	private void savePlankSack() {
+		if (plankSackProfile != null) {
+			String encoded = plankSack.encode();
+			plankSackStore.put(plankSackProfile, encoded);
+			stateFile.writeStrings(PluginStateFile.Record.PLANK_SACK, plankSackProfile, encoded);
 		}
+		suppliesDirty = true;
+	}
 
-		Point reqs = NPC_REQUIREMENTS.getOrDefault(currentContractCity, Collections.emptyMap())
-				.getOrDefault(currentContractNpc.toLowerCase(), Collections.emptyMap())
-				.get(config.plankType());
-		return reqs;
+	@Schedule(period = 30, unit = ChronoUnit.SECONDS, asynchronous = true)
+	public void flushPlankSack() {
+		plankSackStore.flush();
 	}
 
 	public void fetchAndUpdateDynamicSpinners() {
-		if (!config.dynamicMinimums()) {
+		if (!configSnapshot.isDynamicMinimums()) {
 			return;
 		}
-		Point reqs = getCurrentDynamicMaximums();
-		if (reqs != null && panel != null) {
-			SwingUtilities.invokeLater(() -> panel.updateDynamicMinimumSpinners(reqs.x, reqs.y));
+		PlankType plankType = configSnapshot.getPlankType();
+		ContractNpc npc = currentContractNpc;
+		if (npc != null && plankType != null && panel != null) {
+			int requirements = ContractRequirements.get(npc, plankType);
+			SwingUtilities.invokeLater(() -> panel.updateDynamicMinimumSpinners(
+					ContractRequirements.getPlanks(requirements), ContractRequirements.getSteelBars(requirements)));
 		}
 	}
 
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event) {
-		if (!event.getGroup().equals("mahoganyhomeshelper")) {
+		if (SCREEN_MARKER_CONFIG_GROUP.equals(event.getGroup())
+				|| SCREEN_MARKER_GROUPS_CONFIG_GROUP.equals(event.getGroup())) {
+			if (markerCatalog.invalidate(event.getKey(), event.getNewValue())) {
+				// Someone else stored this source, including any state we only applied live
+				deferredMarkerSources.remove(event.getKey());
+				markerPluginAdapter.invalidate(event.getKey());
+				markerReconciler.invalidate();
+				if (nativeOverlay) {
+					clientThread.invokeLater(this::importMirroredMarkers);
+				}
+			}
+			return;
+		}
+
+		if (RUNELITE_CONFIG_GROUP.equals(event.getGroup()) && SCREEN_MARKER_PLUGIN_KEYS.contains(event.getKey())) {
+			// A marker plugin was toggled; its overlays have been rebuilt
+			markerPluginAdapter.invalidateAll();
+			return;
+		}
+
+		if (!event.getGroup().equals(CONFIG_GROUP)) {
 			return;
 		}
 
-		if (config.dynamicMinimums() && "plankType".equals(event.getKey())) {
+		MarkerBindings bindings = MarkerBindings.CONFIG_KEY.equals(event.getKey())
+				? MarkerBindings.load(configManager, CONFIG_GROUP, gson)
+				: configSnapshot.getMarkerBindings();
+		configSnapshot = ConfigSnapshot.load(config, bindings);
+		suppliesDirty = true;
+
+		if (configSnapshot.isDynamicMinimums() && "plankType".equals(event.getKey())) {
 			fetchAndUpdateDynamicSpinners();
 		}
 
+		if ("nativeOverlay".equals(event.getKey())) {
+			boolean isEnabled = Boolean.parseBoolean(event.getNewValue());
+			clientThread.invokeLater(() -> setNativeOverlay(isEnabled));
+		} else if ("quietMarkerUpdates".equals(event.getKey()) && !Boolean.parseBoolean(event.getNewValue())) {
+			clientThread.invokeLater(this::writeDeferredMarkerSources);
+		} else if (MarkerBindings.CONFIG_KEY.equals(event.getKey())) {
+			clientThread.invokeLater(() -> {
+				if (nativeOverlay) {
+					importMirroredMarkers();
+				}
+				markerReconciler.invalidate();
+				updateCityMarkers();
+			});
+		}
+
 		if ("dynamicMinimums".equals(event.getKey())) {
 			boolean isEnabled = Boolean.parseBoolean(event.getNewValue());
 			if (isEnabled) {
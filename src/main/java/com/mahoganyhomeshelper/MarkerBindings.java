@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Immutable table of the marker bound to each {@link MarkerSlot}, resolved once
+ * so event handlers never parse stored bindings.
+ * <p>
+ * All slots are stored together in a single versioned config entry
+ * ({@value #CONFIG_KEY}) which is read and written as a whole. Bindings from
+ * the older one-key-per-slot format are migrated the first time they are
+ * loaded.
+ */
+final class MarkerBindings {
+	/** Config key holding the record of every slot's binding. */
+	static final String CONFIG_KEY = "markerBindings";
+
+	private static final int VERSION = 1;
+	private static final String INFO_SEPARATOR = "|";
+	private static final MarkerSlot[] SLOTS = MarkerSlot.values();
+
+	/** Bindings with every slot empty. */
+	static final MarkerBindings EMPTY = new MarkerBindings(new MarkerInfo[SLOTS.length]);
+
+	/** Stored form of one binding. */
+	private static final class StoredBinding {
+		String key;
+		String group;
+		long id;
+	}
+
+	/** Stored form of all bindings, keyed by slot name. */
+	private static final class StoredBindings {
+		int version;
+		Map<String, StoredBinding> slots;
+	}
+
+	private final MarkerInfo[] markers;
+
+	private MarkerBindings(MarkerInfo[] markers) {
+		this.markers = markers;
+	}
+
+	/**
+	 * Reads every slot's binding from the plugin config, migrating the legacy
+	 * per-slot keys into the single record if the record does not exist yet.
+	 *
+	 * @param configManager The config manager.
+	 * @param configGroup   The plugin's config group.
+	 * @param gson          Used to read and write the record.
+	 * @return The resolved bindings.
+	 */
+	static MarkerBindings load(ConfigManager configManager, String configGroup, Gson gson) {
+		String json = configManager.getConfiguration(configGroup, CONFIG_KEY);
+		if (json != null && !json.isEmpty()) {
+			return fromJson(json, gson);
+		}
+
+		MarkerInfo[] markers = new MarkerInfo[SLOTS.length];
+		boolean migrated = false;
+		for (MarkerSlot slot : SLOTS) {
+			String legacy = configManager.getConfiguration(configGroup, slot.getLegacyConfigKey());
+			if (legacy != null) {
+				markers[slot.ordinal()] = parseLegacy(legacy);
+				migrated = true;
+			}
+		}
+		MarkerBindings bindings = new MarkerBindings(markers);
+		if (migrated) {
+			configManager.setConfiguration(configGroup, CONFIG_KEY, bindings.toJson(gson));
+			for (MarkerSlot slot : SLOTS) {
+				configManager.unsetConfiguration(configGroup, slot.getLegacyConfigKey());
+			}
+		}
+		return bindings;
+	}
+
+	/**
+	 * @param slot The slot.
+	 * @return The marker bound to the slot, or null if none is bound.
+	 */
+	MarkerInfo get(MarkerSlot slot) {
+		return markers[slot.ordinal()];
+	}
+
+	/**
+	 * @param slot   The slot to change.
+	 * @param marker The marker to bind, or null to clear the slot.
+	 * @return A copy of these bindings with the slot changed.
+	 */
+	MarkerBindings with(MarkerSlot slot, MarkerInfo marker) {
+		MarkerInfo[] copy = markers.clone();
+		copy[slot.ordinal()] = (marker == null || marker.getId() < 0) ? null
+				: new MarkerInfo(marker.getId(), null, marker.getGroupName(), marker.getSourcePluginKey());
+		return new MarkerBindings(copy);
+	}
+
+	/**
+	 * @param gson The Gson instance.
+	 * @return The stored form of these bindings.
+	 */
+	String toJson(Gson gson) {
+		StoredBindings stored = new StoredBindings();
+		stored.version = VERSION;
+		stored.slots = new LinkedHashMap<>();
+		for (MarkerSlot slot : SLOTS) {
+			MarkerInfo marker = markers[slot.ordinal()];
+			if (marker != null) {
+				StoredBinding binding = new StoredBinding();
+				binding.key = marker.getSourcePluginKey();
+				binding.group = marker.getGroupName();
+				binding.id = marker.getId();
+				stored.slots.put(slot.name(), binding);
+			}
+		}
+		return gson.toJson(stored);
+	}
+
+	private static MarkerBindings fromJson(String json, Gson gson) {
+		StoredBindings stored;
+		try {
+			stored = gson.fromJson(json, StoredBindings.class);
+		} catch (JsonParseException e) {
+			return EMPTY;
+		}
+		// Newer versions only ever add slots, so unknown slot names are skipped
+		if (stored == null || stored.slots == null) {
+			return EMPTY;
+		}
+
+		MarkerInfo[] markers = new MarkerInfo[SLOTS.length];
+		for (MarkerSlot slot : SLOTS) {
+			StoredBinding binding = stored.slots.get(slot.name());
+			if (binding != null && binding.key != null && binding.id >= 0) {
+				markers[slot.ordinal()] = new MarkerInfo(binding.id, null, binding.group, binding.key);
+			}
+		}
+		return new MarkerBindings(markers);
+	}
+
+	/**
+	 * Parses the legacy composite marker info string format ("key|group|id")
+	 * into a MarkerInfo object.
+	 *
+	 * @param info The composite string from the configuration.
+	 * @return A MarkerInfo object representing the stored marker, or null if the
+	 *         string is empty or invalid.
+	 */
+	private static MarkerInfo parseLegacy(String info) {
+		if (info.isEmpty()) {
+			return null;
+		}
+		String[] parts = info.split("\\" + INFO_SEPARATOR, 3);
+		if (parts.length != 3) {
+			return null;
+		}
+		try {
+			String key = parts[0];
+			String group = "null".equalsIgnoreCase(parts[1]) ? null : parts[1];
+			long id = Long.parseLong(parts[2]);
+			if (id < 0) {
+				return null;
+			}
+			return new MarkerInfo(id, null, group, key);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Keeps the desired visibility of every {@link MarkerSlot} and a cached record
+ * of the actual visibility of the bound markers, and only emits the changes
+ * needed to make the two agree. A marker bound to several slots is shown if any
+ * of them wants it shown.
+ */
+class MarkerReconciler {
+	/**
+	 * Receives the visibility transitions computed by a reconciliation.
+	 */
+	interface Sink {
+		void setVisible(MarkerInfo marker, boolean visible);
+	}
+
+	private static final MarkerSlot[] SLOTS = MarkerSlot.values();
+
+	private final boolean[] desired = new boolean[SLOTS.length];
+	private final Map<MarkerInfo, Boolean> actual = new HashMap<>();
+	private final Function<MarkerInfo, Boolean> actualLookup;
+
+	/** Number of reconciliations performed. */
+	@Getter
+	private long reconciliations;
+	/** Number of visibility changes emitted. */
+	@Getter
+	private long transitions;
+	/** Number of bound markers that already had the desired visibility. */
+	@Getter
+	private long avoidedWrites;
+
+	/**
+	 * @param actualLookup Reads the current visibility of a marker that has no
+	 *                     cached state, returning null if the marker does not
+	 *                     exist.
+	 */
+	MarkerReconciler(Function<MarkerInfo, Boolean> actualLookup) {
+		this.actualLookup = actualLookup;
+	}
+
+	void setDesired(MarkerSlot slot, boolean visible) {
+		desired[slot.ordinal()] = visible;
+	}
+
+	boolean isDesired(MarkerSlot slot) {
+		return desired[slot.ordinal()];
+	}
+
+	/**
+	 * Forgets the cached actual visibility, e.g. after the markers were changed
+	 * by someone else.
+	 */
+	void invalidate() {
+		actual.clear();
+	}
+
+	/**
+	 * Computes the desired visibility of every bound marker and emits the
+	 * transitions where it differs from the actual visibility.
+	 *
+	 * @param bindings The marker bound to each slot.
+	 * @param sink     Receives the transitions.
+	 */
+	void reconcile(MarkerBindings bindings, Sink sink) {
+		reconciliations++;
+
+		Map<MarkerInfo, Boolean> target = new LinkedHashMap<>();
+		for (MarkerSlot slot : SLOTS) {
+			MarkerInfo marker = bindings.get(slot);
+			if (marker != null) {
+				target.merge(marker, desired[slot.ordinal()], Boolean::logicalOr);
+			}
+		}
+
+		for (Map.Entry<MarkerInfo, Boolean> entry : target.entrySet()) {
+			MarkerInfo marker = entry.getKey();
+			boolean visible = entry.getValue();
+			Boolean current = actual.computeIfAbsent(marker, actualLookup);
+			if (current == null) {
+				continue; // Marker doesn't exist
+			}
+			if (current == visible) {
+				avoidedWrites++;
+				continue;
+			}
+			actual.put(marker, visible);
+			transitions++;
+			sink.setVisible(marker, visible);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+/**
+ * A contract hotspot the player chose to build or repair, waiting for the game
+ * to show that the build happened before its materials are charged.
+ * <p>
+ * Clicking "Build" only starts walking to the hotspot, and the build can still
+ * be cancelled by clicking elsewhere. The build is confirmed by the inventory
+ * losing materials the hotspot needs: planks of its type, or steel bars if it
+ * needs any. If that does not happen before the deadline, the build is dropped
+ * without charging anything.
+ */
+final class PendingBuild {
+	/** Game ticks a build may take to be confirmed, including walking to the hotspot. */
+	static final int TIMEOUT_TICKS = 10;
+
+	/** The clicked hotspot, or 0 if no build is pending. */
+	private int gameObjectId;
+	private PlankType plankType;
+	private boolean needsPlanks;
+	private boolean needsSteelBars;
+	/** The inventory when the build was clicked. */
+	private final SupplySnapshot inventory = new SupplySnapshot();
+	private int deadline;
+
+	/**
+	 * Starts waiting for a build, replacing any build still pending.
+	 *
+	 * @param gameObjectId The hotspot's GameObject ID.
+	 * @param packedCost   The hotspot's packed cost.
+	 * @param plankType    The plank type the hotspot is built with.
+	 * @param inventory    The inventory when the build was clicked.
+	 * @param tick         The current game tick.
+	 */
+	void start(int gameObjectId, int packedCost, PlankType plankType, SupplySnapshot inventory, int tick) {
+		this.gameObjectId = gameObjectId;
+		this.plankType = plankType;
+		needsPlanks = FurnitureCostData.getPlankCost(packedCost) > 0;
+		needsSteelBars = FurnitureCostData.getSteelBarCost(packedCost) > 0;
+		this.inventory.copyFrom(inventory);
+		deadline = tick + TIMEOUT_TICKS;
+	}
+
+	/**
+	 * @return true if a build is waiting to be confirmed.
+	 */
+	boolean isPending() {
+		return gameObjectId != 0;
+	}
+
+	/**
+	 * Forgets the pending build, e.g. when the contract changes.
+	 */
+	void clear() {
+		gameObjectId = 0;
+		plankType = null;
+		inventory.clear();
+	}
+
+	/**
+	 * @param current The inventory after a change.
+	 * @return true if a build is pending and the inventory lost materials the
+	 *         hotspot needs since it was clicked.
+	 */
+	boolean usedMaterials(SupplySnapshot current) {
+		if (!isPending() || !inventory.isLoaded() || !current.isLoaded()) {
+			return false;
+		}
+		return (needsPlanks && current.getPlanks(plankType) < inventory.getPlanks(plankType))
+				|| (needsSteelBars && current.getSteelBars() < inventory.getSteelBars());
+	}
+
+	/**
+	 * Drops the pending build if its deadline has passed.
+	 *
+	 * @param tick The current game tick.
+	 */
+	void expire(int tick) {
+		if (isPending() && tick > deadline) {
+			clear();
+		}
+	}
+
+	/**
+	 * Marks the pending hotspot as built and deducts the planks the inventory
+	 * could not cover from the sack.
+	 *
+	 * @param costs  The costs of the current contract.
+	 * @param ledger The plank sack ledger.
+	 */
+	void confirm(ContractCostTable costs, SackLedger ledger) {
+		if (!isPending()) {
+			return;
+		}
+		int slot = costs.find(gameObjectId);
+		if (slot >= 0 && !costs.isBuilt(slot)) {
+			costs.markBuilt(slot);
+			int plankCost = FurnitureCostData.getPlankCost(costs.getCost(slot));
+			int planksNeededFromSack = Math.max(0, plankCost - inventory.getPlanks(plankType));
+			if (planksNeededFromSack > 0) {
+				// Ignored by the ledger if the sack count is unknown
+				ledger.deduct(plankType, planksNeededFromSack);
+			}
+		}
+		clear();
+	}
+}
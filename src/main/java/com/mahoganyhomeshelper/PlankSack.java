@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.Arrays;
+
+/**
+ * Estimated contents of the plank sack, kept as one counter per
+ * {@link PlankType} so planks of other tiers never count toward the selected
+ * tier's threshold. The counters together never exceed the sack's capacity.
+ */
+final class PlankSack {
+	/** The number of planks the sack can hold. */
+	static final int CAPACITY = 28;
+
+	private static final PlankType[] PLANK_TYPES = PlankType.values();
+	private static final char SEPARATOR = ',';
+
+	private final int[] counts = new int[PLANK_TYPES.length];
+	private boolean known;
+
+	/**
+	 * @return true if the contents are known.
+	 */
+	boolean isKnown() {
+		return known;
+	}
+
+	/**
+	 * @param plankType The plank type.
+	 * @return The estimated number of planks of the type, 0 if unknown.
+	 */
+	int get(PlankType plankType) {
+		return counts[plankType.ordinal()];
+	}
+
+	/**
+	 * @return The estimated number of planks of every type.
+	 */
+	int getTotal() {
+		int total = 0;
+		for (int count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * @param other The sack to copy.
+	 */
+	void copyFrom(PlankSack other) {
+		System.arraycopy(other.counts, 0, counts, 0, counts.length);
+		known = other.known;
+	}
+
+	/**
+	 * @param other Another sack.
+	 * @return true if both sacks hold the same estimate.
+	 */
+	boolean contentEquals(PlankSack other) {
+		return known == other.known && Arrays.equals(counts, other.counts);
+	}
+
+	/**
+	 * Marks the contents as unknown.
+	 */
+	void reset() {
+		zero();
+		known = false;
+	}
+
+	/**
+	 * Marks the sack as known to be empty.
+	 */
+	void clear() {
+		zero();
+		known = true;
+	}
+
+	/**
+	 * Sets the count of one plank type, limited to the space left by the other
+	 * types.
+	 *
+	 * @param plankType The plank type.
+	 * @param count     The new count.
+	 */
+	void set(PlankType plankType, int count) {
+		int index = plankType.ordinal();
+		int others = getTotal() - counts[index];
+		counts[index] = Math.max(0, Math.min(count, CAPACITY - others));
+	}
+
+	/**
+	 * Changes the count of one plank type if the contents are known.
+	 *
+	 * @param plankType The plank type.
+	 * @param delta     The number of planks added, negative if removed.
+	 */
+	void add(PlankType plankType, int delta) {
+		if (known) {
+			set(plankType, counts[plankType.ordinal()] + delta);
+		}
+	}
+
+	/**
+	 * Moves planks between the inventory and the sack: whatever of each type
+	 * left the inventory went into the sack, and vice versa.
+	 *
+	 * @param before The inventory before the transfer.
+	 * @param after  The inventory after the transfer.
+	 */
+	void transfer(SupplySnapshot before, SupplySnapshot after) {
+		for (PlankType plankType : PLANK_TYPES) {
+			add(plankType, before.getPlanks(plankType) - after.getPlanks(plankType));
+		}
+	}
+
+	/**
+	 * Tops the sack up to capacity, attributing any planks the estimate missed
+	 * to one type.
+	 *
+	 * @param plankType The type the missing planks are attributed to.
+	 */
+	void fillRemaining(PlankType plankType) {
+		if (!known) {
+			clear();
+		}
+		int index = plankType.ordinal();
+		counts[index] += CAPACITY - getTotal();
+	}
+
+	/**
+	 * @return The counters in compact stored form, or "" if unknown.
+	 */
+	String encode() {
+		if (!known) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < counts.length; i++) {
+			if (i > 0) {
+				sb.append(SEPARATOR);
+			}
+			sb.append(counts[i]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Restores the counters from their stored form.
+	 *
+	 * @param value The stored form, or null.
+	 * @return true if the value was valid; otherwise the contents are unknown.
+	 */
+	boolean decode(String value) {
+		reset();
+		if (value == null || value.isEmpty()) {
+			return false;
+		}
+		int index = 0;
+		int count = 0;
+		boolean digit = false;
+		for (int i = 0; i <= value.length(); i++) {
+			char c = i < value.length() ? value.charAt(i) : SEPARATOR;
+			if (c >= '0' && c <= '9' && count <= CAPACITY) {
+				count = count * 10 + (c - '0');
+				digit = true;
+			} else if (c == SEPARATOR && digit && index < counts.length) {
+				counts[index++] = count;
+				count = 0;
+				digit = false;
+			} else {
+				zero();
+				return false;
+			}
+		}
+		if (index != counts.length || getTotal() > CAPACITY) {
+			zero();
+			return false;
+		}
+		known = true;
+		return true;
+	}
+
+	private void zero() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Write-behind cache of the stored plank sack estimate of each RuneScape
+ * profile. Values are read from config at most once per profile and written
+ * back only when {@link #flush()} is called, so only the last value of a burst
+ * of changes reaches the config.
+ */
+@Singleton
+class PlankSackStore {
+	private final ConfigManager configManager;
+	/** Stored form per RuneScape profile key; "" if the estimate is unknown. */
+	private final Map<String, String> values = new HashMap<>();
+	private final Map<String, String> unwritten = new LinkedHashMap<>();
+
+	/**
+	 * @param configManager The config manager.
+	 */
+	@Inject
+	PlankSackStore(ConfigManager configManager) {
+		this.configManager = configManager;
+	}
+
+	/**
+	 * @param profile The RuneScape profile key.
+	 * @return true if the profile's estimate has already been read.
+	 */
+	synchronized boolean contains(String profile) {
+		return values.containsKey(profile);
+	}
+
+	/**
+	 * @param profile The RuneScape profile key.
+	 * @return The stored estimate of the profile, or null if none is stored.
+	 */
+	synchronized String get(String profile) {
+		if (!values.containsKey(profile)) {
+			values.put(profile, configManager.getConfiguration(MahoganyHomesHelperConfig.SACK_CONFIG_GROUP,
+					profile, MahoganyHomesHelperConfig.SACK_KEY));
+		}
+		String value = values.get(profile);
+		return (value == null || value.isEmpty()) ? null : value;
+	}
+
+	/**
+	 * Replaces the estimate of a profile. It is written at the next flush.
+	 *
+	 * @param profile The RuneScape profile key.
+	 * @param value   The stored form, or "" if the estimate is unknown.
+	 */
+	synchronized void put(String profile, String value) {
+		if (value.equals(values.put(profile, value)) && !unwritten.containsKey(profile)) {
+			return;
+		}
+		unwritten.put(profile, value);
+	}
+
+	/**
+	 * Writes every changed estimate to config.
+	 */
+	void flush() {
+		Map<String, String> pending;
+		synchronized (this) {
+			if (unwritten.isEmpty()) {
+				return;
+			}
+			pending = new LinkedHashMap<>(unwritten);
+			unwritten.clear();
+		}
+		for (Map.Entry<String, String> entry : pending.entrySet()) {
+			if (entry.getValue().isEmpty()) {
+				configManager.unsetConfiguration(MahoganyHomesHelperConfig.SACK_CONFIG_GROUP, entry.getKey(),
+						MahoganyHomesHelperConfig.SACK_KEY);
+			} else {
+				configManager.setConfiguration(MahoganyHomesHelperConfig.SACK_CONFIG_GROUP, entry.getKey(),
+						MahoganyHomesHelperConfig.SACK_KEY, entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Forgets every cached estimate without writing it.
+	 */
+	synchronized void clear() {
+		values.clear();
+		unwritten.clear();
+	}
+}
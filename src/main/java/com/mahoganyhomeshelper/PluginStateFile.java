@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Small fixed-layout file holding the plugin state that should survive a
+ * client restart or crash: the current contract, the plank sack estimate and
+ * the desired marker visibility.
+ * <p>
+ * The file is memory-mapped, so a write is a few stores into the mapping.
+ * Every record has two slots, each carrying a sequence number and a CRC. A
+ * write goes to the older slot and a read takes the newest slot whose CRC
+ * matches, so a write cut short by a crash leaves the previous value intact.
+ * <p>
+ * Access is synchronized, as the plugin is shut down on a different thread
+ * than the one writing state; writes after {@link #close()} are dropped.
+ * Every client maps the same file, so it is locked while open; a client that
+ * finds it locked by another one runs without it.
+ */
+@Slf4j
+final class PluginStateFile {
+	private static final int MAGIC = 0x4d484853; // "MHHS"
+	private static final int VERSION = 3;
+	private static final int HEADER_SIZE = 8;
+	/** Sequence number and CRC preceding each slot's payload. */
+	private static final int SLOT_HEADER_SIZE = 8;
+
+	/** The records in the file, in layout order. */
+	enum Record {
+		/** RuneScape profile key, city and NPC of the current contract. */
+		CONTRACT(96),
+		/** RuneScape profile key and stored plank sack estimate. */
+		PLANK_SACK(96),
+		/** RuneScape profile key and bit mask of the desired visibility per {@link MarkerSlot} ordinal. */
+		MARKERS(96);
+
+		private final int payloadSize;
+
+		Record(int payloadSize) {
+			this.payloadSize = payloadSize;
+		}
+	}
+
+	/** Offset of each record's first slot, indexed by ordinal. */
+	private static final int[] RECORD_OFFSETS = new int[Record.values().length];
+	private static final int FILE_SIZE;
+
+	static {
+		int offset = HEADER_SIZE;
+		for (Record record : Record.values()) {
+			RECORD_OFFSETS[record.ordinal()] = offset;
+			offset += 2 * (SLOT_HEADER_SIZE + record.payloadSize);
+		}
+		FILE_SIZE = offset;
+	}
+
+	private final File file;
+	private final CRC32 crc = new CRC32();
+	private final byte[] scratch = new byte[FILE_SIZE];
+	private FileChannel channel;
+	private FileLock lock;
+	private MappedByteBuffer buffer;
+
+	/**
+	 * @param file The state file. It is created if it does not exist.
+	 */
+	PluginStateFile(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Locks and maps the file, resetting it if its layout is not recognised.
+	 *
+	 * @return true if the file is usable, false if it can't be opened or
+	 *         another client holds it.
+	 */
+	synchronized boolean open() {
+		if (buffer != null) {
+			return true;
+		}
+		try {
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			try {
+				lock = channel.tryLock();
+			} catch (OverlappingFileLockException e) {
+				lock = null;
+			}
+			if (lock == null) {
+				log.debug("Plugin state file is in use by another client");
+				close();
+				return false;
+			}
+			boolean fresh = channel.size() != FILE_SIZE;
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+			if (fresh || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				for (int i = 0; i < FILE_SIZE; i++) {
+					buffer.put(i, (byte) 0);
+				}
+				buffer.putInt(0, MAGIC);
+				buffer.putInt(4, VERSION);
+			}
+			return true;
+		} catch (IOException e) {
+			log.debug("Unable to open plugin state file", e);
+			close();
+			return false;
+		}
+	}
+
+	/**
+	 * Flushes the mapping, releases the lock and closes the file.
+	 */
+	synchronized void close() {
+		try {
+			if (buffer != null) {
+				buffer.force();
+			}
+			if (lock != null) {
+				lock.release();
+			}
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+		}
+		buffer = null;
+		lock = null;
+		channel = null;
+	}
+
+	/**
+	 * Reads a record holding strings.
+	 *
+	 * @param record The record.
+	 * @param count  The number of strings in the record.
+	 * @return The strings, or null if the record was never written or is damaged.
+	 */
+	synchronized String[] readStrings(Record record, int count) {
+		int payload = findPayload(record);
+		if (payload < 0) {
+			return null;
+		}
+		String[] values = new String[count];
+		int position = payload;
+		for (int i = 0; i < count; i++) {
+			int length = buffer.get(position) & 0xff;
+			if (length == 0xff) {
+				position++;
+				continue; // null
+			}
+			for (int j = 0; j < length; j++) {
+				scratch[j] = buffer.get(position + 1 + j);
+			}
+			values[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+			position += 1 + length;
+		}
+		return values;
+	}
+
+	/**
+	 * Writes a record holding strings. The record is left unchanged if the
+	 * strings do not fit.
+	 *
+	 * @param record The record.
+	 * @param values The strings; any may be null.
+	 */
+	synchronized void writeStrings(Record record, String... values) {
+		if (buffer == null) {
+			return;
+		}
+		int length = 0;
+		for (String value : values) {
+			if (value == null) {
+				scratch[length++] = (byte) 0xff;
+				continue;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			if (bytes.length >= 0xff || length + 1 + bytes.length > record.payloadSize) {
+				return;
+			}
+			scratch[length++] = (byte) bytes.length;
+			System.arraycopy(bytes, 0, scratch, length, bytes.length);
+			length += bytes.length;
+		}
+		for (int i = length; i < record.payloadSize; i++) {
+			scratch[i] = 0;
+		}
+		writeSlot(record);
+	}
+
+	/**
+	 * @return The offset of the newest valid payload of the record, or -1.
+	 */
+	private int findPayload(Record record) {
+		if (buffer == null) {
+			return -1;
+		}
+		int best = -1;
+		int bestSequence = 0;
+		for (int slot = 0; slot < 2; slot++) {
+			int offset = slotOffset(record, slot);
+			int sequence = buffer.getInt(offset);
+			if (sequence != 0 && buffer.getInt(offset + 4) == checksum(offset + SLOT_HEADER_SIZE, record, sequence)
+					&& (best < 0 || sequence - bestSequence > 0)) {
+				best = offset + SLOT_HEADER_SIZE;
+				bestSequence = sequence;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Copies the scratch payload into the record's older slot.
+	 */
+	private void writeSlot(Record record) {
+		int current = findPayload(record);
+		int sequence = 1;
+		int slot = 0;
+		if (current >= 0) {
+			int currentOffset = current - SLOT_HEADER_SIZE;
+			sequence = buffer.getInt(currentOffset) + 1;
+			if (sequence == 0) {
+				sequence = 1;
+			}
+			slot = currentOffset == slotOffset(record, 0) ? 1 : 0;
+		}
+		int offset = slotOffset(record, slot);
+		// Invalidate the slot first so a partial write is never read back
+		buffer.putInt(offset, 0);
+		for (int i = 0; i < record.payloadSize; i++) {
+			buffer.put(offset + SLOT_HEADER_SIZE + i, scratch[i]);
+		}
+		buffer.putInt(offset + 4, checksum(offset + SLOT_HEADER_SIZE, record, sequence));
+		buffer.putInt(offset, sequence);
+	}
+
+	private int checksum(int payload, Record record, int sequence) {
+		crc.reset();
+		crc.update(sequence >>> 24);
+		crc.update(sequence >>> 16);
+		crc.update(sequence >>> 8);
+		crc.update(sequence);
+		for (int i = 0; i < record.payloadSize; i++) {
+			crc.update(buffer.get(payload + i));
+		}
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * @return The file offset of a record slot's sequence number; its CRC and
+	 *         payload follow.
+	 */
+	static int slotOffset(Record record, int slot) {
+		return RECORD_OFFSETS[record.ordinal()] + slot * (SLOT_HEADER_SIZE + record.payloadSize);
+	}
+}
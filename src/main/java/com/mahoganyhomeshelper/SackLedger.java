@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import lombok.Getter;
+
+/**
+ * Stages changes to a {@link PlankSack} during a game tick and commits them
+ * together at the end of the tick.
+ * <p>
+ * Each sack interaction opens a pending transfer. Transfers are matched, one
+ * each, against the following inventory changes or resolved by a sack chat
+ * message. Transfers still unmatched when their deadline passes are rolled
+ * back and lower the confidence of the estimate.
+ */
+final class SackLedger {
+	/** Game ticks a transfer may wait for its inventory change. */
+	static final int TRANSFER_TIMEOUT_TICKS = 2;
+
+	/** How far the committed sack contents can be trusted. */
+	enum Confidence {
+		/** Nothing is known about the contents. */
+		UNKNOWN,
+		/** A transfer went unconfirmed; the contents may be off. */
+		UNCERTAIN,
+		/** Derived from inventory changes and build costs. */
+		ESTIMATED,
+		/** Read from a sack chat message and unchanged since. */
+		CONFIRMED
+	}
+
+	private final PlankSack committed;
+	private final PlankSack working = new PlankSack();
+	private final SupplySnapshot transferBase = new SupplySnapshot();
+	private boolean staged;
+	private Confidence stagedConfidence;
+	private int openTransfers;
+	private int transferDeadline;
+
+	/** The confidence of the committed contents. */
+	@Getter
+	private Confidence confidence = Confidence.UNKNOWN;
+
+	/**
+	 * @param committed The sack the staged changes are committed to.
+	 */
+	SackLedger(PlankSack committed) {
+		this.committed = committed;
+	}
+
+	/**
+	 * Discards staged changes and pending transfers, for example after the
+	 * committed sack was reloaded.
+	 */
+	void reset() {
+		staged = false;
+		openTransfers = 0;
+		transferBase.clear();
+		confidence = committed.isKnown() ? Confidence.ESTIMATED : Confidence.UNKNOWN;
+	}
+
+	/**
+	 * Opens a transfer between the inventory and the sack.
+	 *
+	 * @param inventory The inventory before the transfer.
+	 * @param tick      The current game tick.
+	 */
+	void openTransfer(SupplySnapshot inventory, int tick) {
+		if (openTransfers == 0) {
+			transferBase.copyFrom(inventory);
+		}
+		openTransfers++;
+		transferDeadline = tick + TRANSFER_TIMEOUT_TICKS;
+	}
+
+	/**
+	 * @return true if a transfer is waiting for its inventory change.
+	 */
+	boolean isTransferOpen() {
+		return openTransfers > 0;
+	}
+
+	/**
+	 * Matches the oldest pending transfer with an inventory change.
+	 *
+	 * @param inventory The inventory after the change.
+	 */
+	void inventoryChanged(SupplySnapshot inventory) {
+		if (openTransfers == 0) {
+			return;
+		}
+		openTransfers--;
+		if (transferBase.isLoaded() && inventory.isLoaded()) {
+			stage(Confidence.ESTIMATED).transfer(transferBase, inventory);
+		}
+		transferBase.copyFrom(inventory);
+	}
+
+	/**
+	 * Removes planks used from the sack while building.
+	 *
+	 * @param plankType The plank type used.
+	 * @param count     The number of planks taken from the sack.
+	 */
+	void deduct(PlankType plankType, int count) {
+		stage(Confidence.ESTIMATED).add(plankType, -count);
+	}
+
+	/**
+	 * Sets the contents from the sack's check message, resolving every pending
+	 * transfer.
+	 *
+	 * @param counts The count of each plank type, in {@link PlankType} order.
+	 */
+	void confirm(int[] counts) {
+		PlankSack sack = stage(Confidence.CONFIRMED);
+		sack.clear();
+		PlankType[] plankTypes = PlankType.values();
+		for (int i = 0; i < plankTypes.length; i++) {
+			sack.set(plankTypes[i], counts[i]);
+		}
+		openTransfers = 0;
+	}
+
+	/**
+	 * Records that the sack is empty, resolving one pending transfer.
+	 */
+	void confirmEmpty() {
+		stage(Confidence.CONFIRMED).clear();
+		resolveTransfer();
+	}
+
+	/**
+	 * Records that the sack is full, resolving one pending transfer.
+	 *
+	 * @param plankType The type any planks the estimate missed are attributed
+	 *                  to.
+	 */
+	void confirmFull(PlankType plankType) {
+		stage(Confidence.ESTIMATED).fillRemaining(plankType);
+		resolveTransfer();
+	}
+
+	/**
+	 * Resolves one pending transfer that moved nothing.
+	 */
+	void resolveTransfer() {
+		if (openTransfers > 0) {
+			openTransfers--;
+		}
+	}
+
+	/**
+	 * Ends the tick: rolls back expired transfers and commits the staged
+	 * contents. An expired transfer caps the confidence at
+	 * {@link Confidence#UNCERTAIN}, even if changes were staged in the same
+	 * tick.
+	 *
+	 * @param tick The current game tick.
+	 * @return true if the committed contents changed and should be persisted.
+	 */
+	boolean commit(int tick) {
+		Confidence limit = Confidence.CONFIRMED;
+		if (openTransfers > 0 && tick > transferDeadline) {
+			openTransfers = 0;
+			limit = Confidence.UNCERTAIN;
+		}
+		if (!staged) {
+			confidence = lower(confidence, limit);
+			return false;
+		}
+		staged = false;
+		confidence = working.isKnown() ? lower(stagedConfidence, limit) : Confidence.UNKNOWN;
+		if (working.contentEquals(committed)) {
+			return false;
+		}
+		committed.copyFrom(working);
+		return true;
+	}
+
+	private static Confidence lower(Confidence a, Confidence b) {
+		return a.compareTo(b) <= 0 ? a : b;
+	}
+
+	/**
+	 * @param change The confidence the change supports.
+	 * @return The working copy of the sack to apply the change to.
+	 */
+	private PlankSack stage(Confidence change) {
+		if (!staged) {
+			working.copyFrom(committed);
+			stagedConfidence = confidence;
+			staged = true;
+		}
+		if (change == Confidence.CONFIRMED) {
+			stagedConfidence = Confidence.CONFIRMED;
+		} else if (stagedConfidence == Confidence.CONFIRMED || stagedConfidence == Confidence.UNKNOWN) {
+			stagedConfidence = change;
+		}
+		return working;
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.awt.Color;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Parsed, indexed copy of the markers stored by the Screen Marker and Screen
+ * Marker Groups plugins. Markers are indexed by (source key, group, id) and the
+ * JSON is only parsed again after {@link #invalidate(String, String)} is called for a
+ * change this plugin did not make itself.
+ */
+@Singleton
+class ScreenMarkerCatalog {
+	static final String SCREEN_MARKER_CONFIG_GROUP = "screenmarkers";
+	static final String SCREEN_MARKER_MARKERS_KEY = "markers";
+	static final String SCREEN_MARKER_GROUPS_CONFIG_GROUP = "screenmarkergroups";
+	static final String SCREEN_MARKER_GROUPS_KEY = "markerGroups";
+
+	private static final Type SCREEN_MARKER_LIST_TYPE = new TypeToken<List<MarkerPojo>>() {
+	}.getType();
+	private static final Type SCREEN_GROUP_MAP_TYPE = new TypeToken<Map<String, List<MarkerPojo>>>() {
+	}.getType();
+
+	/**
+	 * The subset of a stored screen marker this plugin reads. Only used for
+	 * lookups; writes go through {@link ScreenMarkerJsonPatcher} so fields not
+	 * declared here are never lost.
+	 */
+	static class MarkerPojo {
+		long id;
+		String name;
+		boolean visible;
+		Long importedId;
+		int borderThickness;
+		Color color;
+		Color fill;
+	}
+
+	private final ConfigManager configManager;
+	private final Gson gson;
+
+	private List<MarkerPojo> markers;
+	private Map<String, List<MarkerPojo>> groups;
+	private String markersJson;
+	private String groupsJson;
+	private final Map<MarkerInfo, MarkerPojo> index = new HashMap<>();
+	private List<MarkerInfo> available;
+
+	@Inject
+	ScreenMarkerCatalog(ConfigManager configManager, Gson gson) {
+		this.configManager = configManager;
+		this.gson = gson;
+	}
+
+	/**
+	 * Drops the parsed copy of a marker source if the given value is not the one
+	 * this catalog last wrote, so the next lookup re-reads the config.
+	 *
+	 * @param configKey The config key that changed.
+	 * @param newValue  The new stored JSON.
+	 * @return true if the catalog was invalidated.
+	 */
+	synchronized boolean invalidate(String configKey, String newValue) {
+		if (SCREEN_MARKER_MARKERS_KEY.equals(configKey)) {
+			if (markers != null && newValue != null && newValue.equals(markersJson)) {
+				return false;
+			}
+			markers = null;
+		} else if (SCREEN_MARKER_GROUPS_KEY.equals(configKey)) {
+			if (groups != null && newValue != null && newValue.equals(groupsJson)) {
+				return false;
+			}
+			groups = null;
+		} else {
+			return false;
+		}
+		index.clear();
+		available = null;
+		return true;
+	}
+
+	/**
+	 * Drops all parsed marker data.
+	 */
+	synchronized void invalidateAll() {
+		markers = null;
+		groups = null;
+		index.clear();
+		available = null;
+	}
+
+	/**
+	 * @return All markers from both sources, sorted by display name. Markers
+	 *         imported into a group are only listed once, under their group.
+	 */
+	synchronized List<MarkerInfo> getAvailableMarkers() {
+		ensureLoaded();
+		if (available == null) {
+			List<MarkerInfo> allMarkers = new ArrayList<>();
+			Set<Long> importedMarkerIds = new HashSet<>();
+			for (Map.Entry<String, List<MarkerPojo>> entry : groups.entrySet()) {
+				for (MarkerPojo m : entry.getValue()) {
+					allMarkers.add(new MarkerInfo(m.id, m.name, entry.getKey(), SCREEN_MARKER_GROUPS_KEY));
+					if (m.importedId != null) {
+						importedMarkerIds.add(m.importedId);
+					}
+				}
+			}
+			for (MarkerPojo m : markers) {
+				if (!importedMarkerIds.contains(m.id)) {
+					allMarkers.add(new MarkerInfo(m.id, m.name, null, SCREEN_MARKER_MARKERS_KEY));
+				}
+			}
+			allMarkers.sort((m1, m2) -> m1.getDisplayName().compareToIgnoreCase(m2.getDisplayName()));
+			available = Collections.unmodifiableList(allMarkers);
+		}
+		return available;
+	}
+
+	/**
+	 * Looks up a marker by its (source key, group, id) identity.
+	 *
+	 * @param marker The marker identity; the name is ignored.
+	 * @return The stored marker, or null if it does not exist.
+	 */
+	synchronized MarkerPojo find(MarkerInfo marker) {
+		ensureLoaded();
+		return index.get(new MarkerInfo(marker.getId(), null, marker.getGroupName(), marker.getSourcePluginKey()));
+	}
+
+	/**
+	 * @param configKey The marker source key.
+	 * @return The stored JSON the catalog was built from, or null if there is
+	 *         none.
+	 */
+	synchronized String getJson(String configKey) {
+		ensureLoaded();
+		if (SCREEN_MARKER_MARKERS_KEY.equals(configKey)) {
+			return markersJson;
+		} else if (SCREEN_MARKER_GROUPS_KEY.equals(configKey)) {
+			return groupsJson;
+		}
+		return null;
+	}
+
+	/**
+	 * Records JSON this plugin is about to store, so the resulting
+	 * {@code ConfigChanged} is not treated as an external edit, and applies the
+	 * same visibility changes to the parsed markers.
+	 *
+	 * @param configKey The marker source key.
+	 * @param json      The JSON being written.
+	 * @param applied   The visibility changes contained in the new JSON.
+	 */
+	synchronized void recordWrite(String configKey, String json, Map<MarkerInfo, Boolean> applied) {
+		ensureLoaded();
+		if (SCREEN_MARKER_MARKERS_KEY.equals(configKey)) {
+			markersJson = json;
+		} else if (SCREEN_MARKER_GROUPS_KEY.equals(configKey)) {
+			groupsJson = json;
+		} else {
+			return;
+		}
+		for (Map.Entry<MarkerInfo, Boolean> entry : applied.entrySet()) {
+			MarkerPojo marker = index.get(entry.getKey());
+			if (marker != null) {
+				marker.visible = entry.getValue();
+			}
+		}
+	}
+
+	private void ensureLoaded() {
+		boolean rebuildIndex = false;
+		if (markers == null) {
+			markersJson = configManager.getConfiguration(SCREEN_MARKER_CONFIG_GROUP, SCREEN_MARKER_MARKERS_KEY);
+			markers = parse(markersJson, SCREEN_MARKER_LIST_TYPE, new ArrayList<>());
+			markers.removeIf(m -> m == null);
+			rebuildIndex = true;
+		}
+		if (groups == null) {
+			groupsJson = configManager.getConfiguration(SCREEN_MARKER_GROUPS_CONFIG_GROUP, SCREEN_MARKER_GROUPS_KEY);
+			groups = parse(groupsJson, SCREEN_GROUP_MAP_TYPE, new HashMap<>());
+			groups.values().removeIf(l -> l == null);
+			groups.values().forEach(l -> l.removeIf(m -> m == null));
+			rebuildIndex = true;
+		}
+		if (rebuildIndex) {
+			index.clear();
+			for (MarkerPojo m : markers) {
+				index.put(new MarkerInfo(m.id, null, null, SCREEN_MARKER_MARKERS_KEY), m);
+			}
+			for (Map.Entry<String, List<MarkerPojo>> entry : groups.entrySet()) {
+				for (MarkerPojo m : entry.getValue()) {
+					index.put(new MarkerInfo(m.id, null, entry.getKey(), SCREEN_MARKER_GROUPS_KEY), m);
+				}
+			}
+			available = null;
+		}
+	}
+
+	private <T> T parse(String json, Type type, T empty) {
+		if (json == null || json.isEmpty()) {
+			return empty;
+		}
+		try {
+			T parsed = gson.fromJson(json, type);
+			return parsed != null ? parsed : empty;
+		} catch (JsonSyntaxException e) {
+			return empty;
+		}
+	}
+}
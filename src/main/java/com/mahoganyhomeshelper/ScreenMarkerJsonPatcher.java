@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Rewrites the {@code visible} flag of selected screen markers by streaming the
+ * stored JSON token by token, instead of binding it to objects and serializing
+ * it again. Fields this plugin knows nothing about are copied verbatim, and at
+ * most one marker's worth of fields is buffered at a time.
+ * <p>
+ * Output is written compact and HTML-safe, matching Gson's defaults, so for a
+ * document produced by Gson only the patched {@code visible} values change.
+ */
+final class ScreenMarkerJsonPatcher {
+	/**
+	 * Receives each marker whose {@code visible} value was actually rewritten.
+	 */
+	interface PatchListener {
+		void patched(String groupName, long markerId, boolean visible);
+	}
+
+	private ScreenMarkerJsonPatcher() {
+	}
+
+	/**
+	 * Patches a Screen Marker plugin document (a JSON array of markers).
+	 *
+	 * @param json     The stored JSON.
+	 * @param changes  Requested visibility, keyed by marker ID.
+	 * @param listener Notified for each marker that changed.
+	 * @return The patched JSON, or null if nothing changed or the document could
+	 *         not be read.
+	 */
+	static String patchMarkerList(String json, Map<Long, Boolean> changes, PatchListener listener) {
+		return patch(json, false, null, changes, listener);
+	}
+
+	/**
+	 * Patches a Screen Marker Groups document (a JSON object mapping group names
+	 * to marker arrays).
+	 *
+	 * @param json     The stored JSON.
+	 * @param changes  Requested visibility, keyed by group name then marker ID.
+	 * @param listener Notified for each marker that changed.
+	 * @return The patched JSON, or null if nothing changed or the document could
+	 *         not be read.
+	 */
+	static String patchMarkerGroups(String json, Map<String, Map<Long, Boolean>> changes,
+			PatchListener listener) {
+		return patch(json, true, changes, null, listener);
+	}
+
+	private static String patch(String json, boolean grouped, Map<String, Map<Long, Boolean>> groupChanges,
+			Map<Long, Boolean> changes, PatchListener listener) {
+		if (json == null || json.isEmpty()) {
+			return null;
+		}
+
+		boolean[] changed = new boolean[1];
+		PatchListener tracking = (group, id, visible) -> {
+			changed[0] = true;
+			listener.patched(group, id, visible);
+		};
+
+		StringWriter buffer = new StringWriter(json.length());
+		try (JsonReader in = new JsonReader(new StringReader(json))) {
+			JsonWriter out = newWriter(buffer);
+			if (!grouped) {
+				copyMarkerArray(in, out, null, changes, tracking);
+			} else if (in.peek() == JsonToken.BEGIN_OBJECT) {
+				in.beginObject();
+				out.beginObject();
+				while (in.hasNext()) {
+					String groupName = in.nextName();
+					out.name(groupName);
+					copyMarkerArray(in, out, groupName, groupChanges.get(groupName), tracking);
+				}
+				in.endObject();
+				out.endObject();
+			} else {
+				copyValue(in, out);
+			}
+			if (in.peek() != JsonToken.END_DOCUMENT) {
+				return null;
+			}
+			out.flush();
+		} catch (IOException | IllegalStateException | JsonParseException | NumberFormatException e) {
+			return null;
+		}
+		return changed[0] ? buffer.toString() : null;
+	}
+
+	private static void copyMarkerArray(JsonReader in, JsonWriter out, String groupName,
+			Map<Long, Boolean> changes, PatchListener listener) throws IOException {
+		if (changes == null || changes.isEmpty() || in.peek() != JsonToken.BEGIN_ARRAY) {
+			copyValue(in, out);
+			return;
+		}
+
+		in.beginArray();
+		out.beginArray();
+		while (in.hasNext()) {
+			if (in.peek() == JsonToken.BEGIN_OBJECT) {
+				copyMarker(in, out, groupName, changes, listener);
+			} else {
+				copyValue(in, out);
+			}
+		}
+		in.endArray();
+		out.endArray();
+	}
+
+	private static void copyMarker(JsonReader in, JsonWriter out, String groupName, Map<Long, Boolean> changes,
+			PatchListener listener) throws IOException {
+		in.beginObject();
+		out.beginObject();
+
+		Long id = null;
+		boolean visible = false;
+		// Fields following a "visible" that came before "id"; written once the id is known
+		List<String> deferred = null;
+
+		while (in.hasNext()) {
+			String name = in.nextName();
+			JsonToken token = in.peek();
+			if ("id".equals(name) && token == JsonToken.NUMBER) {
+				String raw = in.nextString();
+				id = Long.parseLong(raw);
+				if (deferred != null) {
+					deferred.add(name);
+					deferred.add(raw);
+				} else {
+					out.name(name).jsonValue(raw);
+				}
+			} else if ("visible".equals(name) && token == JsonToken.BOOLEAN && deferred == null) {
+				visible = in.nextBoolean();
+				if (id != null) {
+					out.name(name).value(resolve(groupName, id, visible, changes, listener));
+				} else {
+					deferred = new ArrayList<>();
+				}
+			} else if (deferred != null) {
+				deferred.add(name);
+				deferred.add(captureValue(in));
+			} else {
+				out.name(name);
+				copyValue(in, out);
+			}
+		}
+
+		if (deferred != null) {
+			out.name("visible").value(id != null ? resolve(groupName, id, visible, changes, listener) : visible);
+			for (int i = 0; i < deferred.size(); i += 2) {
+				out.name(deferred.get(i)).jsonValue(deferred.get(i + 1));
+			}
+		}
+
+		in.endObject();
+		out.endObject();
+	}
+
+	private static boolean resolve(String groupName, long id, boolean current, Map<Long, Boolean> changes,
+			PatchListener listener) {
+		Boolean requested = changes.get(id);
+		if (requested == null || requested == current) {
+			return current;
+		}
+		listener.patched(groupName, id, requested);
+		return requested;
+	}
+
+	private static String captureValue(JsonReader in) throws IOException {
+		StringWriter buffer = new StringWriter();
+		JsonWriter out = newWriter(buffer);
+		copyValue(in, out);
+		out.flush();
+		return buffer.toString();
+	}
+
+	private static void copyValue(JsonReader in, JsonWriter out) throws IOException {
+		switch (in.peek()) {
+			case BEGIN_ARRAY:
+				in.beginArray();
+				out.beginArray();
+				while (in.hasNext()) {
+					copyValue(in, out);
+				}
+				in.endArray();
+				out.endArray();
+				break;
+			case BEGIN_OBJECT:
+				in.beginObject();
+				out.beginObject();
+				while (in.hasNext()) {
+					out.name(in.nextName());
+					copyValue(in, out);
+				}
+				in.endObject();
+				out.endObject();
+				break;
+			case STRING:
+				out.value(in.nextString());
+				break;
+			case NUMBER:
+				// Keep the literal as written rather than round-tripping through a double
+				out.jsonValue(in.nextString());
+				break;
+			case BOOLEAN:
+				out.value(in.nextBoolean());
+				break;
+			case NULL:
+				in.nextNull();
+				out.nullValue();
+				break;
+			default:
+				throw new IllegalStateException("Unexpected token " + in.peek());
+		}
+	}
+
+	private static JsonWriter newWriter(StringWriter buffer) {
+		JsonWriter out = new JsonWriter(buffer);
+		out.setHtmlSafe(true);
+		out.setSerializeNulls(true);
+		return out;
+	}
+}
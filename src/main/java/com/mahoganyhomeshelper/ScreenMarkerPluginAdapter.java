@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.plugins.Plugin;
+import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.ui.overlay.Overlay;
+
+/**
+ * Applies marker visibility directly to the in-memory markers of the Screen
+ * Marker and Screen Marker Groups plugins. Reflection is resolved once per
+ * plugin instance into {@link MethodHandle}s, and live marker objects are
+ * indexed by group and ID so a toggle is a single handle invocation. The index
+ * is rebuilt when it is invalidated, or when the plugin's overlay lists were
+ * replaced or no longer hold the same overlays as when it was built. If
+ * either plugin is missing, or its internals don't look as expected, toggles
+ * for it are simply reported as not applied.
+ */
+@Singleton
+class ScreenMarkerPluginAdapter {
+	private static final String SCREEN_MARKER_PLUGIN_CLASS =
+			"net.runelite.client.plugins.screenmarkers.ScreenMarkerPlugin";
+	private static final String SCREEN_MARKER_GROUPS_PLUGIN_CLASS = "screenmarkergroups.ScreenMarkerGroupsPlugin";
+
+	private static final MethodType OVERLAYS_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType ID_TYPE = MethodType.methodType(long.class, Object.class);
+	private static final MethodType SET_VISIBLE_TYPE = MethodType.methodType(void.class, Object.class, boolean.class);
+
+	/** A live marker and the overlay drawing it. */
+	private static final class LiveMarker {
+		private final Object marker;
+		private final Object overlay;
+
+		private LiveMarker(Object marker, Object overlay) {
+			this.marker = marker;
+			this.overlay = overlay;
+		}
+	}
+
+	/**
+	 * One resolved marker plugin: how to reach its overlays and how to toggle
+	 * the markers behind them.
+	 */
+	private static final class Source {
+		private final Object plugin;
+		/** plugin -> List of overlays, or Map of group name -> List of overlays */
+		private final MethodHandle overlays;
+		private final boolean grouped;
+		private MethodHandle getMarker;
+		private MethodHandle getId;
+		private MethodHandle setVisible;
+		/** Group name (null for ungrouped markers) -> marker ID -> live marker */
+		private final Map<String, Map<Long, LiveMarker>> index = new HashMap<>();
+		/** The overlay containers the index was built from, and their contents then. */
+		private final List<Object> indexedContainers = new ArrayList<>();
+		private final List<Object[]> indexedContents = new ArrayList<>();
+		private boolean indexed;
+
+		private Source(Object plugin, MethodHandle overlays, boolean grouped) {
+			this.plugin = plugin;
+			this.overlays = overlays;
+			this.grouped = grouped;
+		}
+	}
+
+	private final PluginManager pluginManager;
+
+	private Source markers;
+	private Source groups;
+
+	@Inject
+	ScreenMarkerPluginAdapter(PluginManager pluginManager) {
+		this.pluginManager = pluginManager;
+	}
+
+	/**
+	 * Looks up both marker plugins and resolves their accessors. Called on
+	 * startup and whenever a plugin is loaded or unloaded.
+	 */
+	synchronized void resolve() {
+		markers = null;
+		groups = null;
+		for (Plugin plugin : pluginManager.getPlugins()) {
+			String className = plugin.getClass().getName();
+			if (SCREEN_MARKER_PLUGIN_CLASS.equals(className)) {
+				markers = resolveMarkers(plugin);
+			} else if (SCREEN_MARKER_GROUPS_PLUGIN_CLASS.equals(className)) {
+				groups = resolveGroups(plugin);
+			}
+		}
+	}
+
+	/**
+	 * Marks the marker index of a source as stale, so it is rebuilt before the
+	 * next toggle. Called when the stored markers change.
+	 *
+	 * @param sourcePluginKey The marker source key.
+	 */
+	synchronized void invalidate(String sourcePluginKey) {
+		Source source = source(sourcePluginKey);
+		if (source != null) {
+			source.indexed = false;
+		}
+	}
+
+	/**
+	 * Marks every marker index as stale.
+	 */
+	synchronized void invalidateAll() {
+		if (markers != null) {
+			markers.indexed = false;
+		}
+		if (groups != null) {
+			groups.indexed = false;
+		}
+	}
+
+	/**
+	 * Sets the visibility of a live marker.
+	 *
+	 * @param markerInfo The marker.
+	 * @param visible    The new visibility.
+	 * @return true if the marker was found and updated.
+	 */
+	synchronized boolean setVisible(MarkerInfo markerInfo, boolean visible) {
+		Source source = source(markerInfo.getSourcePluginKey());
+		if (source == null) {
+			return false;
+		}
+
+		LiveMarker live = lookup(source, markerInfo);
+		if (live == null) {
+			return false;
+		}
+		try {
+			source.setVisible.invokeExact(live.marker, visible);
+			return true;
+		} catch (Throwable e) {
+			source.indexed = false;
+			return false;
+		}
+	}
+
+	/**
+	 * Looks up the live overlay drawing a marker.
+	 *
+	 * @param markerInfo The marker.
+	 * @return The overlay, or null if the marker plugin or marker is not present.
+	 */
+	synchronized Overlay getOverlay(MarkerInfo markerInfo) {
+		Source source = source(markerInfo.getSourcePluginKey());
+		LiveMarker live = source != null ? lookup(source, markerInfo) : null;
+		return live != null && live.overlay instanceof Overlay ? (Overlay) live.overlay : null;
+	}
+
+	private Source source(String sourcePluginKey) {
+		if (ScreenMarkerCatalog.SCREEN_MARKER_MARKERS_KEY.equals(sourcePluginKey)) {
+			return markers;
+		} else if (ScreenMarkerCatalog.SCREEN_MARKER_GROUPS_KEY.equals(sourcePluginKey)) {
+			return groups;
+		}
+		return null;
+	}
+
+	private LiveMarker lookup(Source source, MarkerInfo markerInfo) {
+		String groupName = source.grouped ? markerInfo.getGroupName() : null;
+		if (source.indexed && !overlaysChanged(source)) {
+			return find(source, groupName, markerInfo.getId());
+		}
+		// Markers were added or removed since the last index; rebuild once
+		index(source);
+		return find(source, groupName, markerInfo.getId());
+	}
+
+	private static LiveMarker find(Source source, String groupName, long markerId) {
+		Map<Long, LiveMarker> group = source.index.get(groupName);
+		return group != null ? group.get(markerId) : null;
+	}
+
+	/**
+	 * @return true if the overlay containers of a source were replaced or hold
+	 *         other overlays than when the index was built.
+	 */
+	private static boolean overlaysChanged(Source source) {
+		Object overlays;
+		try {
+			overlays = source.overlays.invokeExact(source.plugin);
+		} catch (Throwable e) {
+			return true;
+		}
+		int i = 0;
+		if (!sameContainer(source, i++, overlays)) {
+			return true;
+		}
+		if (source.grouped && overlays instanceof Map) {
+			for (Object group : ((Map<?, ?>) overlays).values()) {
+				if (!sameContainer(source, i++, group)) {
+					return true;
+				}
+			}
+		}
+		return i != source.indexedContainers.size();
+	}
+
+	private static boolean sameContainer(Source source, int index, Object container) {
+		if (index >= source.indexedContainers.size() || source.indexedContainers.get(index) != container) {
+			return false;
+		}
+		// Compared by identity, so a removal and an addition in between is noticed
+		Object[] indexed = source.indexedContents.get(index);
+		Object[] contents = contentsOf(container);
+		if (indexed.length != contents.length) {
+			return false;
+		}
+		for (int i = 0; i < contents.length; i++) {
+			if (indexed[i] != contents[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return The elements of a collection, or the keys and values of a map.
+	 */
+	private static Object[] contentsOf(Object container) {
+		if (container instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) container;
+			Object[] contents = new Object[map.size() * 2];
+			int i = 0;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				contents[i++] = entry.getKey();
+				contents[i++] = entry.getValue();
+			}
+			return contents;
+		}
+		return container instanceof Collection ? ((Collection<?>) container).toArray() : new Object[0];
+	}
+
+	private void index(Source source) {
+		source.index.clear();
+		source.indexedContainers.clear();
+		source.indexedContents.clear();
+		source.indexed = true;
+		try {
+			Object overlays = source.overlays.invokeExact(source.plugin);
+			recordContainer(source, overlays);
+			if (source.grouped) {
+				if (overlays instanceof Map) {
+					for (Map.Entry<?, ?> group : ((Map<?, ?>) overlays).entrySet()) {
+						recordContainer(source, group.getValue());
+						if (group.getKey() instanceof String && group.getValue() instanceof Collection) {
+							indexOverlays(source, (String) group.getKey(), (Collection<?>) group.getValue());
+						}
+					}
+				}
+			} else if (overlays instanceof Collection) {
+				indexOverlays(source, null, (Collection<?>) overlays);
+			}
+		} catch (Throwable e) {
+			source.index.clear();
+		}
+	}
+
+	private static void recordContainer(Source source, Object container) {
+		source.indexedContainers.add(container);
+		source.indexedContents.add(contentsOf(container));
+	}
+
+	private void indexOverlays(Source source, String groupName, Collection<?> overlays) throws Throwable {
+		for (Object overlay : overlays) {
+			if (overlay == null) {
+				continue;
+			}
+			if (source.getMarker == null) {
+				source.getMarker = findMethod(overlay.getClass(), "getMarker").asType(GETTER_TYPE);
+			}
+			Object marker = source.getMarker.invokeExact(overlay);
+			if (marker == null) {
+				continue;
+			}
+			if (source.getId == null) {
+				Class<?> markerClass = marker.getClass();
+				source.getId = findMethod(markerClass, "getId").asType(ID_TYPE);
+				source.setVisible = findMethod(markerClass, "setVisible", boolean.class).asType(SET_VISIBLE_TYPE);
+			}
+			long id = (long) source.getId.invokeExact(marker);
+			source.index.computeIfAbsent(groupName, k -> new HashMap<>()).put(id, new LiveMarker(marker, overlay));
+		}
+	}
+
+	private static Source resolveMarkers(Object plugin) {
+		try {
+			MethodHandle overlays = findMethod(plugin.getClass(), "getScreenMarkers").asType(OVERLAYS_TYPE);
+			return new Source(plugin, overlays, false);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static Source resolveGroups(Object plugin) {
+		try {
+			Field groupsField = plugin.getClass().getDeclaredField("markerGroups");
+			groupsField.setAccessible(true);
+			MethodHandle overlays = MethodHandles.lookup().unreflectGetter(groupsField).asType(OVERLAYS_TYPE);
+			return new Source(plugin, overlays, true);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static MethodHandle findMethod(Class<?> type, String name, Class<?>... parameterTypes)
+			throws ReflectiveOperationException {
+		Method method = type.getMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return MethodHandles.lookup().unreflect(method);
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.ItemID;
+
+/**
+ * Reusable count of the planks of each {@link PlankType} and the steel bars
+ * in a container. Filling, copying and comparing work in place, so tracking
+ * supplies allocates nothing once the snapshots exist.
+ */
+final class SupplySnapshot {
+	private static final PlankType[] PLANK_TYPES = PlankType.values();
+	private static final int STEEL_BAR_INDEX = PLANK_TYPES.length;
+
+	private final int[] counts = new int[PLANK_TYPES.length + 1];
+	private boolean loaded;
+
+	/**
+	 * @param itemId An item id.
+	 * @return The count index of the item, or -1 if it is not tracked.
+	 */
+	private static int indexOf(int itemId) {
+		switch (itemId) {
+			case ItemID.PLANK:
+				return PlankType.PLANK.ordinal();
+			case ItemID.OAK_PLANK:
+				return PlankType.OAK_PLANK.ordinal();
+			case ItemID.TEAK_PLANK:
+				return PlankType.TEAK_PLANK.ordinal();
+			case ItemID.MAHOGANY_PLANK:
+				return PlankType.MAHOGANY_PLANK.ordinal();
+			case ItemID.STEEL_BAR:
+				return STEEL_BAR_INDEX;
+			default:
+				return -1;
+		}
+	}
+
+	/**
+	 * @param itemId An item id.
+	 * @return true if the item is one of the plank types.
+	 */
+	static boolean isPlank(int itemId) {
+		int index = indexOf(itemId);
+		return index >= 0 && index < STEEL_BAR_INDEX;
+	}
+
+	/**
+	 * @param itemId An item id.
+	 * @return The plank type of the item, or null if it is not a plank.
+	 */
+	static PlankType plankTypeOf(int itemId) {
+		int index = indexOf(itemId);
+		return (index >= 0 && index < STEEL_BAR_INDEX) ? PLANK_TYPES[index] : null;
+	}
+
+	/**
+	 * Replaces the counts with those of a container.
+	 *
+	 * @param container The container, or null if it is not loaded.
+	 */
+	void fill(ItemContainer container) {
+		if (container == null) {
+			clear();
+			return;
+		}
+		fill(container.getItems());
+	}
+
+	/**
+	 * Replaces the counts with those of a container's items.
+	 *
+	 * @param items The items of a loaded container.
+	 */
+	void fill(Item[] items) {
+		clear();
+		for (Item item : items) {
+			if (item != null) {
+				int index = indexOf(item.getId());
+				if (index >= 0) {
+					counts[index] += item.getQuantity();
+				}
+			}
+		}
+		loaded = true;
+	}
+
+	/**
+	 * @param other The snapshot to copy.
+	 */
+	void copyFrom(SupplySnapshot other) {
+		System.arraycopy(other.counts, 0, counts, 0, counts.length);
+		loaded = other.loaded;
+	}
+
+	/**
+	 * Zeroes the counts and marks the snapshot as not loaded.
+	 */
+	void clear() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+		}
+		loaded = false;
+	}
+
+	/**
+	 * @return true if the snapshot was filled from a loaded container.
+	 */
+	boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * @param plankType The plank type.
+	 * @return The number of planks of the type.
+	 */
+	int getPlanks(PlankType plankType) {
+		return counts[plankType.ordinal()];
+	}
+
+	/**
+	 * @param itemId An item id.
+	 * @return The count of the item, or 0 if it is not a plank.
+	 */
+	int getPlanks(int itemId) {
+		int index = indexOf(itemId);
+		return (index >= 0 && index < STEEL_BAR_INDEX) ? counts[index] : 0;
+	}
+
+	/**
+	 * @return The total number of planks of every type.
+	 */
+	int getTotalPlanks() {
+		int total = 0;
+		for (int i = 0; i < STEEL_BAR_INDEX; i++) {
+			total += counts[i];
+		}
+		return total;
+	}
+
+	/**
+	 * @return The number of steel bars.
+	 */
+	int getSteelBars() {
+		return counts[STEEL_BAR_INDEX];
+	}
+}
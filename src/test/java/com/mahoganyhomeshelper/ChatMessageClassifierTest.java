@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.runelite.api.ChatMessageType;
+import net.runelite.client.util.Text;
+import org.junit.Test;
+
+public class ChatMessageClassifierTest {
+	/** The pattern the classifier replaces. */
+	private static final Pattern CONTRACT_PATTERN = Pattern.compile(
+			".*?see <col=ff0000>([^<]+?)\\s*</col>.*?<col=ff0000>(Varrock|Falador|Ardougne(?: market)?|Hosidius)</col>.*",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final String[] CORPUS = {
+			"Please could you go see <col=ff0000>Jess</col> in <col=ff0000>Ardougne market</col>. She needs some work doing upstairs.",
+			"Please could you go see <col=ff0000>Ross</col> in <col=ff0000>Ardougne</col>.",
+			"Please could you go see <col=ff0000>Noella</col> on the north side of <col=ff0000>Ardougne market</col>.",
+			"Please could you go see <col=ff0000>Larry</col> near the north gate of <col=ff0000>Falador</col>.",
+			"Please could you go see <col=ff0000>Norman</col> south of <col=ff0000>Falador</col>.",
+			"Please could you go see <col=ff0000>Tau</col> in <col=ff0000>Falador</col>.",
+			"Please could you go see <col=ff0000>Barbara</col> in <col=ff0000>Hosidius</col>.",
+			"Please could you go see <col=ff0000>Leela</col> east of <col=ff0000>Hosidius</col> market.",
+			"Please could you go see <col=ff0000>Mariah</col> in <col=ff0000>Hosidius</col>.",
+			"Please could you go see <col=ff0000>Bob</col> in <col=ff0000>Varrock</col>.",
+			"Please could you go see <col=ff0000>Jeff</col> in <col=ff0000>Varrock</col>.",
+			"Please could you go see <col=ff0000>Sarah</col> in <col=ff0000>Varrock</col>.",
+			"Please could you go SEE <COL=FF0000>sarah  </COL> in <COL=ff0000>VARROCK</COL>.",
+			"go see <col=ff0000> Jeff </col> at <col=ff0000>varrock</col>",
+			"go see <col=ff0000>Someone</col> at <col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Jess</col> at <col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Jess</col> at <col=ff0000>Lumbridge</col>.",
+			"go see <col=ff0000></col> then see <col=ff0000>Bob</col> in <col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Bob<br></col> in <col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Bob</col> in\n<col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Bob\n</col> in <col=ff0000>Varrock</col>",
+			"go see <col=ff0000>Bob</col> in <col=ff0000>Varrock </col> or <col=ff0000>Falador</col>",
+			"go see <col=ff0000>Bob</col> in <col=ff0000>Ardougne Market</col>, see <col=ff0000>Tau</col>",
+			"go see <col=ff0000>Bob</col> in <col=ff0000>Ardougne market",
+			"go see <col=00ff00>Bob</col> in <col=ff0000>Varrock</col>",
+			"see <col=ff0000>\t</col><col=ff0000>Varrock</col>",
+			"see <col=ff0000>x</col><col=ff0000>Varrock</col>",
+			"You have completed 12 contracts with a total of 3400 points.",
+			"Basic&#160;planks:&#160;3, Oak&#160;planks:&#160;0, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;25",
+			"<col=ef1020>Basic&#160;planks:&#160;0</col>, Oak&#160;planks:&#160;<col=ff0000>12</col>, Teak&#160;planks:&#160;1, Mahogany&#160;planks:&#160;0",
+			"Basic&#160;planks:&#160;3, Oak&#160;planks:&#160;0, Teak&#160;planks:&#160;0",
+			"Basic&#160;planks:&#160;3, Oak&#160;planks:&#160;x, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;0",
+			"Basic&#160;planks:&#160;+3, Oak&#160;planks:&#160;-1, Teak&#160;planks:&#160; 7 , Mahogany&#160;planks:&#160;0:&#160;9",
+			"Basic&#160;planks:&#160;99999999999, Oak&#160;planks:&#160;0, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;0",
+			"Basic&#160;planks:&#160;-2147483648, Oak&#160;planks:&#160;0, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;0,",
+			"Basic&#160;planks:&#160;1,,,",
+			"Basic&#160;planks:&#160;1, Oak&#160;planks:&#160;, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;0",
+			"Basic planks: 1, Oak planks: 2, Teak planks: 3, Mahogany planks: 4",
+			"You haven't got any planks that can go in the sack.",
+			"<col=ff0000>Your sack is full.</col>",
+			"Your sack is full.",
+			"Your sack is full",
+			"Your sack is empty.",
+			"Your sack is empty. ",
+			"<lt>Your sack is empty.",
+			"Your sack is <b>empty.",
+			"Your sack is <empty.",
+			"Y",
+			"",
+	};
+
+	private static final ChatMessageType[] TYPES = {ChatMessageType.GAMEMESSAGE, ChatMessageType.DIALOG,
+			ChatMessageType.PUBLICCHAT};
+
+	/** The outcome of the chat handling before the classifier, for comparison. */
+	private static String reference(ChatMessageType type, String message) {
+		if (type == ChatMessageType.GAMEMESSAGE || type == ChatMessageType.DIALOG) {
+			Matcher matcher = CONTRACT_PATTERN.matcher(message);
+			if (matcher.find()) {
+				City city = City.fromName(matcher.group(2));
+				if (matcher.group(1) != null && city != null) {
+					return "CONTRACT " + city + " " + ContractNpc.find(city, matcher.group(1));
+				}
+			}
+		}
+
+		if (type == ChatMessageType.GAMEMESSAGE) {
+			String text = Text.removeTags(message);
+			if (text.startsWith("Basic&#160;planks:")) {
+				try {
+					String[] parts = text.split(",");
+					int[] counts = new int[PlankType.values().length];
+					for (int i = 0; i < counts.length; i++) {
+						counts[i] = Integer.parseInt(parts[i].split(":&#160;")[1].trim());
+					}
+					return "SACK_CONTENTS " + Arrays.toString(counts);
+				} catch (Exception e) {
+				}
+			} else if (text.equals("You haven't got any planks that can go in the sack.")) {
+				return "SACK_NOTHING_TO_ADD";
+			} else if (text.equals("Your sack is full.")) {
+				return "SACK_FULL";
+			} else if (text.equals("Your sack is empty.")) {
+				return "SACK_EMPTY";
+			}
+		}
+		return "NONE";
+	}
+
+	private static String classify(ChatMessageClassifier classifier, ChatMessageType type, String message) {
+		ChatMessageClassifier.Result result = classifier.classify(type, message);
+		switch (result) {
+			case CONTRACT:
+				return "CONTRACT " + classifier.getCity() + " " + classifier.getNpc();
+			case SACK_CONTENTS:
+				return "SACK_CONTENTS " + Arrays.toString(classifier.getCounts());
+			default:
+				return result.name();
+		}
+	}
+
+	@Test
+	public void testCorpus() {
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		for (String message : CORPUS) {
+			for (ChatMessageType type : TYPES) {
+				assertEquals(type + " " + message, reference(type, message), classify(classifier, type, message));
+			}
+		}
+	}
+
+	@Test
+	public void testMutatedCorpus() {
+		// Splices and edits corpus messages to reach the edge cases of the pattern
+		String[] fragments = {"<", ">", "</col>", "<col=ff0000>", "see ", "SEE <col=FF0000>", " ", "\n", "\u2028",
+				",", ":&#160;", "<lt>", "<gt>", "Varrock", "ARDOUGNE MARKET", "Jess", "bob", "-", "7", "\u0661"};
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		Random random = new Random(1);
+		for (int n = 0; n < 50000; n++) {
+			StringBuilder message = new StringBuilder(CORPUS[random.nextInt(CORPUS.length)]);
+			for (int edits = random.nextInt(4); edits > 0; edits--) {
+				int at = message.length() == 0 ? 0 : random.nextInt(message.length() + 1);
+				if (random.nextBoolean() && at < message.length()) {
+					message.delete(at, Math.min(message.length(), at + 1 + random.nextInt(6)));
+				} else {
+					message.insert(at, fragments[random.nextInt(fragments.length)]);
+				}
+			}
+			ChatMessageType type = TYPES[random.nextInt(TYPES.length)];
+			String text = message.toString();
+			assertEquals(type + " " + text, reference(type, text), classify(classifier, type, text));
+		}
+	}
+
+	@Test
+	public void testCountsOfConsecutiveChecks() {
+		ChatMessageClassifier classifier = new ChatMessageClassifier();
+		assertEquals(ChatMessageClassifier.Result.SACK_CONTENTS, classifier.classify(ChatMessageType.GAMEMESSAGE,
+				"Basic&#160;planks:&#160;0, Oak&#160;planks:&#160;12, Teak&#160;planks:&#160;1, Mahogany&#160;planks:&#160;0"));
+		assertArrayEquals(new int[]{0, 12, 1, 0}, classifier.getCounts());
+
+		assertEquals(ChatMessageClassifier.Result.SACK_CONTENTS, classifier.classify(ChatMessageType.GAMEMESSAGE,
+				"Basic&#160;planks:&#160;3, Oak&#160;planks:&#160;0, Teak&#160;planks:&#160;0, Mahogany&#160;planks:&#160;25"));
+		assertArrayEquals(new int[]{3, 0, 0, 25}, classifier.getCounts());
+
+		// A message that is not a sack check leaves the last counts alone
+		assertEquals(ChatMessageClassifier.Result.SACK_EMPTY,
+				classifier.classify(ChatMessageType.GAMEMESSAGE, "Your sack is empty."));
+		assertArrayEquals(new int[]{3, 0, 0, 25}, classifier.getCounts());
+	}
+}
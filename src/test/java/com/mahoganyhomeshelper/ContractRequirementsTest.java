@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import java.awt.Point;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+public class ContractRequirementsTest {
+	/** The hand-kept requirements table the derived values replaced, keyed by city then NPC. */
+	private static final Map<String, Map<String, Map<PlankType, Point>>> LEGACY_REQUIREMENTS = new HashMap<>();
+
+	static {
+		Map<String, Map<PlankType, Point>> ardougneNpcs = new HashMap<>();
+		ardougneNpcs.put("jess", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
+				PlankType.TEAK_PLANK, new Point(15, 1), PlankType.MAHOGANY_PLANK, new Point(15, 1)));
+		ardougneNpcs.put("noella", Map.of(PlankType.PLANK, new Point(12, 0), PlankType.OAK_PLANK, new Point(12, 0),
+				PlankType.TEAK_PLANK, new Point(15, 0), PlankType.MAHOGANY_PLANK, new Point(15, 0)));
+		ardougneNpcs.put("ross", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
+				PlankType.TEAK_PLANK, new Point(11, 1), PlankType.MAHOGANY_PLANK, new Point(11, 1)));
+		LEGACY_REQUIREMENTS.put("ardougne", ardougneNpcs);
+		Map<String, Map<PlankType, Point>> faladorNpcs = new HashMap<>();
+		faladorNpcs.put("larry", Map.of(PlankType.PLANK, new Point(12, 1), PlankType.OAK_PLANK, new Point(12, 1),
+				PlankType.TEAK_PLANK, new Point(12, 1), PlankType.MAHOGANY_PLANK, new Point(12, 1)));
+		faladorNpcs.put("norman", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
+				PlankType.TEAK_PLANK, new Point(13, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
+		faladorNpcs.put("tau", Map.of(PlankType.PLANK, new Point(12, 1), PlankType.OAK_PLANK, new Point(12, 1),
+				PlankType.TEAK_PLANK, new Point(13, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
+		LEGACY_REQUIREMENTS.put("falador", faladorNpcs);
+		Map<String, Map<PlankType, Point>> hosidiusNpcs = new HashMap<>();
+		hosidiusNpcs.put("barbara", Map.of(PlankType.PLANK, new Point(8, 1), PlankType.OAK_PLANK, new Point(8, 1),
+				PlankType.TEAK_PLANK, new Point(10, 1), PlankType.MAHOGANY_PLANK, new Point(10, 1)));
+		hosidiusNpcs.put("leela", Map.of(PlankType.PLANK, new Point(9, 1), PlankType.OAK_PLANK, new Point(9, 1),
+				PlankType.TEAK_PLANK, new Point(10, 1), PlankType.MAHOGANY_PLANK, new Point(13, 1)));
+		hosidiusNpcs.put("mariah", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
+				PlankType.TEAK_PLANK, new Point(14, 1), PlankType.MAHOGANY_PLANK, new Point(14, 1)));
+		LEGACY_REQUIREMENTS.put("hosidius", hosidiusNpcs);
+		Map<String, Map<PlankType, Point>> varrockNpcs = new HashMap<>();
+		varrockNpcs.put("bob", Map.of(PlankType.PLANK, new Point(14, 0), PlankType.OAK_PLANK, new Point(14, 0),
+				PlankType.TEAK_PLANK, new Point(17, 0), PlankType.MAHOGANY_PLANK, new Point(17, 0)));
+		varrockNpcs.put("jeff", Map.of(PlankType.PLANK, new Point(13, 0), PlankType.OAK_PLANK, new Point(13, 0),
+				PlankType.TEAK_PLANK, new Point(16, 0), PlankType.MAHOGANY_PLANK, new Point(16, 0)));
+		varrockNpcs.put("sarah", Map.of(PlankType.PLANK, new Point(11, 1), PlankType.OAK_PLANK, new Point(11, 1),
+				PlankType.TEAK_PLANK, new Point(11, 1), PlankType.MAHOGANY_PLANK, new Point(11, 1)));
+		LEGACY_REQUIREMENTS.put("varrock", varrockNpcs);
+	}
+
+	/** Furniture with a cost but no captured GameObject ID, as "NPC furniture". */
+	private static final Set<String> UNMAPPED_FURNITURE = Collections.singleton("TAU Hat Stand");
+
+	/**
+	 * The legacy table, adjusted where the hotspot data differs from it:
+	 * <ul>
+	 * <li>Mariah's hotspots (two tables, bed, cupboard, shelves, small table, hat
+	 * stand and sink) add up to one plank more in every tier.</li>
+	 * <li>Tau's hat stand (1 plank, adept and expert) has no captured object.</li>
+	 * <li>Only one of Larry's two tables (3 planks) has a captured object.</li>
+	 * </ul>
+	 */
+	private static int expectedPlanks(ContractNpc npc, PlankType tier, Point legacy) {
+		switch (npc) {
+			case MARIAH:
+				return legacy.x + 1;
+			case TAU:
+				return tier.compareTo(PlankType.TEAK_PLANK) >= 0 ? legacy.x - 1 : legacy.x;
+			case LARRY:
+				return legacy.x - 3;
+			default:
+				return legacy.x;
+		}
+	}
+
+	@Test
+	public void testMatchesLegacyTable() {
+		int entries = 0;
+		for (ContractNpc npc : ContractNpc.values()) {
+			Map<PlankType, Point> tiers = LEGACY_REQUIREMENTS.get(npc.getCity().name().toLowerCase())
+					.get(npc.name().toLowerCase());
+			assertNotNull(npc.name(), tiers);
+			for (PlankType tier : PlankType.values()) {
+				Point expected = tiers.get(tier);
+				int requirements = ContractRequirements.get(npc, tier);
+				assertEquals(npc + " " + tier, expectedPlanks(npc, tier, expected),
+						ContractRequirements.getPlanks(requirements));
+				assertEquals(npc + " " + tier, expected.y, ContractRequirements.getSteelBars(requirements));
+				entries++;
+			}
+		}
+
+		int legacyEntries = 0;
+		for (Map<String, Map<PlankType, Point>> npcs : LEGACY_REQUIREMENTS.values()) {
+			for (Map<PlankType, Point> tiers : npcs.values()) {
+				legacyEntries += tiers.size();
+			}
+		}
+		assertEquals(legacyEntries, entries);
+	}
+
+	@Test
+	public void testTiersMatchFurnitureCosts() {
+		for (PlankType tier : PlankType.values()) {
+			int[] planks = new int[ContractNpc.values().length];
+			int[] steelBars = new int[ContractNpc.values().length];
+			for (int id : FurnitureCostData.getMappedGameObjectIds()) {
+				ContractNpc owner = ContractNpc.values()[FurnitureCostData.getOwnerOrdinal(
+						FurnitureCostData.getPackedCost(id))];
+				FurnitureCostData.FurnitureCost cost = FurnitureCostData.getCost(owner.getCity().getDisplayName(),
+						owner.getDisplayName(), FurnitureCostData.getFurnitureNameForGameObjectId(id));
+				assertNotNull("GameObject " + id, cost);
+				if (cost.getMinTier().compareTo(tier) <= 0) {
+					planks[owner.ordinal()] += cost.getPlankCost();
+					steelBars[owner.ordinal()] += cost.getSteelBarCost();
+				}
+			}
+
+			for (ContractNpc npc : ContractNpc.values()) {
+				int requirements = ContractRequirements.get(npc, tier);
+				assertEquals(npc + " " + tier, planks[npc.ordinal()], ContractRequirements.getPlanks(requirements));
+				assertEquals(npc + " " + tier, steelBars[npc.ordinal()],
+						ContractRequirements.getSteelBars(requirements));
+			}
+		}
+	}
+
+	@Test
+	public void testEveryFurnitureHasAHotspot() {
+		// A cost without a mapped GameObject is left out of the maxima
+		for (FurnitureDataReference.Cost cost : FurnitureDataReference.COSTS) {
+			boolean mapped = false;
+			for (FurnitureDataReference.GameObject object : FurnitureDataReference.OBJECTS) {
+				mapped |= object.npc == cost.npc && object.furniture.equalsIgnoreCase(cost.furniture);
+			}
+			String furniture = cost.npc + " " + cost.furniture;
+			assertEquals(furniture, !UNMAPPED_FURNITURE.contains(furniture), mapped);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Test;
+
+public class FurnitureCostDataTest {
+	@Test
+	public void testPackedCostsMatchCostMaps() {
+		for (int id : FurnitureCostData.getMappedGameObjectIds()) {
+			int packed = FurnitureCostData.getPackedCost(id);
+			assertNotEquals("GameObject " + id, FurnitureCostData.NO_COST, packed);
+
+			ContractNpc owner = ContractNpc.values()[FurnitureCostData.getOwnerOrdinal(packed)];
+			String name = FurnitureCostData.getFurnitureNameForGameObjectId(id);
+			FurnitureCostData.FurnitureCost cost = FurnitureCostData.getCost(owner.getCity().getDisplayName(),
+					owner.getDisplayName(), name);
+			assertNotNull("GameObject " + id, cost);
+			assertEquals("GameObject " + id, cost.getPlankCost(), FurnitureCostData.getPlankCost(packed));
+			assertEquals("GameObject " + id, cost.getSteelBarCost(), FurnitureCostData.getSteelBarCost(packed));
+		}
+	}
+
+	@Test
+	public void testUnmappedIds() {
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(0));
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(-1));
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(39980));
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(40100));
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(40300));
+		assertEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testMappedIdRange() {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int id : FurnitureCostData.getMappedGameObjectIds()) {
+			min = Math.min(min, id);
+			max = Math.max(max, id);
+		}
+		// The range stated for the table in FurnitureCostData.MAX_OBJECT_ID
+		assertEquals(39981, min);
+		assertEquals(40299, max);
+		assertNotEquals(FurnitureCostData.NO_COST, FurnitureCostData.getPackedCost(40299));
+	}
+
+	@Test
+	public void testEveryNpcOwnsHotspots() {
+		for (ContractNpc npc : ContractNpc.values()) {
+			int[] ids = FurnitureCostData.getGameObjectIds(npc);
+			assertNotEquals(npc.name(), 0, ids.length);
+			for (int id : ids) {
+				assertEquals(npc.ordinal(), FurnitureCostData.getOwnerOrdinal(FurnitureCostData.getPackedCost(id)));
+			}
+		}
+	}
+
+	@Test
+	public void testResourceMatchesReference() throws IOException {
+		ByteArrayOutputStream resource = new ByteArrayOutputStream();
+		try (InputStream in = FurnitureCostData.class.getResourceAsStream("furniture.dat")) {
+			assertNotNull(in);
+			byte[] buffer = new byte[4096];
+			for (int n; (n = in.read(buffer)) != -1; ) {
+				resource.write(buffer, 0, n);
+			}
+		}
+		assertArrayEquals("furniture.dat is out of date; regenerate it with FurnitureDataReference",
+				FurnitureDataReference.encode(), resource.toByteArray());
+	}
+
+	@Test
+	public void testReferenceLookups() {
+		for (FurnitureDataReference.Cost expected : FurnitureDataReference.COSTS) {
+			FurnitureCostData.FurnitureCost cost = FurnitureCostData.getCost(expected.npc.getCity().name(),
+					expected.npc.name(), expected.furniture.toUpperCase());
+			assertNotNull(expected.npc + " " + expected.furniture, cost);
+			assertEquals(expected.furniture, cost.getFurnitureName());
+			assertEquals(expected.planks, cost.getPlankCost());
+			assertEquals(expected.bars, cost.getSteelBarCost());
+		}
+		for (FurnitureDataReference.GameObject expected : FurnitureDataReference.OBJECTS) {
+			assertEquals(expected.furniture, FurnitureCostData.getFurnitureNameForGameObjectId(expected.id));
+			assertEquals(expected.npc.ordinal(),
+					FurnitureCostData.getOwnerOrdinal(FurnitureCostData.getPackedCost(expected.id)));
+		}
+		assertEquals(FurnitureDataReference.OBJECTS.size(), FurnitureCostData.getMappedGameObjectIds().size());
+	}
+}
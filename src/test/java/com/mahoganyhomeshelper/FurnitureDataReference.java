@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Readable copy of the furniture dataset that is shipped as the binary
+ * {@code furniture.dat} resource, and the writer that produces the resource.
+ * <p>
+ * To change the dataset, edit the entries below and run {@link #main} with the
+ * resource path as the argument, e.g.
+ * {@code src/main/resources/com/mahoganyhomeshelper/furniture.dat}.
+ */
+final class FurnitureDataReference {
+	static final class Cost {
+		final ContractNpc npc;
+		final String furniture;
+		final int planks;
+		final int bars;
+		final PlankType minTier;
+
+		Cost(ContractNpc npc, String furniture, int planks, int bars, PlankType minTier) {
+			this.npc = npc;
+			this.furniture = furniture;
+			this.planks = planks;
+			this.bars = bars;
+			this.minTier = minTier;
+		}
+	}
+
+	static final class GameObject {
+		final ContractNpc npc;
+		final int id;
+		final String furniture;
+
+		GameObject(ContractNpc npc, int id, String furniture) {
+			this.npc = npc;
+			this.id = id;
+			this.furniture = furniture;
+		}
+	}
+
+	static final List<Cost> COSTS = new ArrayList<>();
+	static final List<GameObject> OBJECTS = new ArrayList<>();
+
+	private FurnitureDataReference() {
+	}
+
+	private static void addCost(String city, String npc, String furniture, int planks, int bars) {
+		addCost(city, npc, furniture, planks, bars, PlankType.PLANK);
+	}
+
+	/**
+	 * @param minTier The lowest tier whose contracts can ask for the furniture.
+	 */
+	private static void addCost(String city, String npc, String furniture, int planks, int bars,
+			PlankType minTier) {
+		COSTS.add(new Cost(ContractNpc.find(City.fromName(city), npc), furniture, planks, bars, minTier));
+	}
+
+	private static void addObject(String city, String npc, int id, String furniture) {
+		OBJECTS.add(new GameObject(ContractNpc.find(City.fromName(city), npc), id, furniture));
+	}
+
+	static {
+		// --- Ardougne ---
+		// Jess
+		addCost("ardougne", "jess", "Cabinet", 2, 0);
+		addCost("ardougne", "jess", "Drawers", 2, 0);
+		addCost("ardougne", "jess", "Bed", 3, 0, PlankType.TEAK_PLANK);
+		addCost("ardougne", "jess", "Bathtub", 0, 1);
+		addCost("ardougne", "jess", "Grandfather Clock", 1, 0, PlankType.TEAK_PLANK);
+		addCost("ardougne", "jess", "Table", 3, 0);
+		// Noella
+		addCost("ardougne", "noella", "Cupboard", 2, 0);
+		addCost("ardougne", "noella", "Dresser", 2, 0, PlankType.TEAK_PLANK);
+		addCost("ardougne", "noella", "Drawers", 2, 0);
+		addCost("ardougne", "noella", "Hat Stand", 1, 0);
+		addCost("ardougne", "noella", "Table", 3, 0);
+		addCost("ardougne", "noella", "Grandfather clock", 1, 0);
+		addCost("ardougne", "noella", "Mirror", 1, 0, PlankType.TEAK_PLANK);
+		// Ross
+		addCost("ardougne", "ross", "Bed", 2, 0);
+		addCost("ardougne", "ross", "Double Bed", 3, 0);
+		addCost("ardougne", "ross", "Drawers", 2, 0);
+		addCost("ardougne", "ross", "Hat Stand", 1, 0);
+		addCost("ardougne", "ross", "Mirror", 1, 0);
+		addCost("ardougne", "ross", "Range", 0, 1);
+
+		// --- Falador ---
+		// Larry
+		addCost("falador", "larry", "Drawers", 2, 0);
+		addCost("falador", "larry", "Grandfather Clock", 1, 0);
+		addCost("falador", "larry", "Hat stand", 1, 0);
+		addCost("falador", "larry", "Table", 3, 0);
+		addCost("falador", "larry", "Range", 0, 1);
+		// Norman
+		addCost("falador", "norman", "Bookshelf", 2, 0);
+		addCost("falador", "norman", "Double Bed", 3, 0);
+		addCost("falador", "norman", "Drawers", 2, 0);
+		addCost("falador", "norman", "Grandfather Clock", 1, 0);
+		addCost("falador", "norman", "Small Table", 2, 0, PlankType.TEAK_PLANK);
+		addCost("falador", "norman", "Table", 3, 0);
+		addCost("falador", "norman", "Range", 0, 1);
+		// Tau
+		addCost("falador", "tau", "Cupboard", 2, 0);
+		addCost("falador", "tau", "Hat Stand", 1, 0);
+		addCost("falador", "tau", "Shelves", 2, 0);
+		addCost("falador", "tau", "Sink", 0, 1);
+		addCost("falador", "tau", "Table", 3, 0);
+
+		// --- Hosidius ---
+		// Barbara
+		addCost("hosidius", "barbara", "Bed", 2, 0);
+		addCost("hosidius", "barbara", "Chair", 1, 0, PlankType.TEAK_PLANK);
+		addCost("hosidius", "barbara", "Drawers", 2, 0);
+		addCost("hosidius", "barbara", "Table", 3, 0);
+		addCost("hosidius", "barbara", "Range", 0, 1);
+		addCost("hosidius", "barbara", "Grandfather Clock", 1, 0);
+		// Leela
+		addCost("hosidius", "leela", "Cupboard", 2, 0);
+		addCost("hosidius", "leela", "Small Table", 2, 0);
+		addCost("hosidius", "leela", "Double Bed", 3, 0);
+		addCost("hosidius", "leela", "Mirror", 1, 0, PlankType.TEAK_PLANK);
+		addCost("hosidius", "leela", "Table", 3, 0, PlankType.MAHOGANY_PLANK);
+		addCost("hosidius", "leela", "Sink", 0, 1);
+		// Mariah
+		addCost("hosidius", "mariah", "Bed", 2, 0);
+		addCost("hosidius", "mariah", "Cupboard", 2, 0);
+		addCost("hosidius", "mariah", "Hat Stand", 1, 0, PlankType.TEAK_PLANK);
+		addCost("hosidius", "mariah", "Shelves", 2, 0, PlankType.TEAK_PLANK);
+		addCost("hosidius", "mariah", "Sink", 0, 1);
+		addCost("hosidius", "mariah", "Small Table", 2, 0);
+		addCost("hosidius", "mariah", "Table", 3, 0);
+
+		// --- Varrock ---
+		// Bob
+		addCost("varrock", "bob", "Large table", 4, 0);
+		addCost("varrock", "bob", "Bookcase", 2, 0);
+		addCost("varrock", "bob", "Cabinet", 2, 0);
+		addCost("varrock", "bob", "Grandfather Clock", 1, 0, PlankType.TEAK_PLANK);
+		addCost("varrock", "bob", "Wardrobe", 2, 0, PlankType.TEAK_PLANK);
+		addCost("varrock", "bob", "Drawers", 2, 0);
+		// Jeff
+		addCost("varrock", "jeff", "Bookcase", 2, 0);
+		addCost("varrock", "jeff", "Chair", 1, 0);
+		addCost("varrock", "jeff", "Drawers", 2, 0);
+		addCost("varrock", "jeff", "Dresser", 2, 0);
+		addCost("varrock", "jeff", "Table", 3, 0);
+		addCost("varrock", "jeff", "Shelves", 2, 0);
+		addCost("varrock", "jeff", "Mirror", 1, 0);
+		addCost("varrock", "jeff", "Bed", 3, 0, PlankType.TEAK_PLANK);
+		// Sarah
+		addCost("varrock", "sarah", "Bed", 2, 0);
+		addCost("varrock", "sarah", "Dresser", 2, 0);
+		addCost("varrock", "sarah", "Shelves", 2, 0);
+		addCost("varrock", "sarah", "Small table", 2, 0);
+		addCost("varrock", "sarah", "Table", 3, 0);
+		addCost("varrock", "sarah", "Range", 0, 1);
+
+		// Falador - Tau (IDs: 40083-40088)
+		addObject("falador", "tau", 40085, "Table");
+		addObject("falador", "tau", 40084, "Table");
+		addObject("falador", "tau", 40086, "Cupboard");
+		addObject("falador", "tau", 40087, "Shelves");
+		addObject("falador", "tau", 40088, "Shelves");
+		addObject("falador", "tau", 40083, "Sink");
+		// Falador - Larry (IDs: 40095-40099, 40297-40298)
+		addObject("falador", "larry", 40298, "Hat stand");
+		addObject("falador", "larry", 40096, "Drawers");
+		addObject("falador", "larry", 40095, "Drawers");
+		addObject("falador", "larry", 40297, "Range");
+		addObject("falador", "larry", 40098, "Table");
+		addObject("falador", "larry", 40099, "Grandfather Clock");
+		// Falador - Norman (IDs: 40089-40094, 40296)
+		addObject("falador", "norman", 40091, "Double Bed");
+		addObject("falador", "norman", 40089, "Grandfather Clock");
+		addObject("falador", "norman", 40094, "Small Table");
+		addObject("falador", "norman", 40090, "Table");
+		addObject("falador", "norman", 40296, "Range");
+		addObject("falador", "norman", 40092, "Bookshelf");
+		addObject("falador", "norman", 40093, "Drawers");
+
+		// Ardougne - Ross
+		addObject("ardougne", "ross", 40166, "Drawers");
+		addObject("ardougne", "ross", 40165, "Drawers");
+		addObject("ardougne", "ross", 40164, "Range");
+		addObject("ardougne", "ross", 40168, "Hat Stand");
+		addObject("ardougne", "ross", 40167, "Double Bed");
+		addObject("ardougne", "ross", 40170, "Mirror");
+		addObject("ardougne", "ross", 40169, "Bed");
+		// Ardougne - Noella
+		addObject("ardougne", "noella", 40159, "Mirror");
+		addObject("ardougne", "noella", 40157, "Cupboard");
+		addObject("ardougne", "noella", 40156, "Dresser");
+		addObject("ardougne", "noella", 40160, "Drawers");
+		addObject("ardougne", "noella", 40161, "Table");
+		addObject("ardougne", "noella", 40162, "Table");
+		addObject("ardougne", "noella", 40158, "Hat stand");
+		addObject("ardougne", "noella", 40163, "Grandfather clock");
+		// Ardougne - Jess
+		addObject("ardougne", "jess", 40172, "Drawers");
+		addObject("ardougne", "jess", 40174, "Cabinet");
+		addObject("ardougne", "jess", 40173, "Cabinet");
+		addObject("ardougne", "jess", 40175, "Bed");
+		addObject("ardougne", "jess", 40177, "Grandfather Clock");
+		addObject("ardougne", "jess", 40171, "Drawers");
+		addObject("ardougne", "jess", 40299, "Bathtub");
+		addObject("ardougne", "jess", 40176, "Table");
+
+		// Varrock - Sarah
+		addObject("varrock", "sarah", 39997, "Table");
+		addObject("varrock", "sarah", 40286, "Range");
+		addObject("varrock", "sarah", 40001, "Shelves");
+		addObject("varrock", "sarah", 40000, "Small table");
+		addObject("varrock", "sarah", 39998, "Bed");
+		addObject("varrock", "sarah", 39999, "Dresser");
+		// Varrock - Jeff
+		addObject("varrock", "jeff", 39990, "Bookcase");
+		addObject("varrock", "jeff", 39989, "Table");
+		addObject("varrock", "jeff", 39991, "Shelves");
+		addObject("varrock", "jeff", 39996, "Chair");
+		addObject("varrock", "jeff", 39994, "Dresser");
+		addObject("varrock", "jeff", 39993, "Drawers");
+		addObject("varrock", "jeff", 39992, "Bed");
+		addObject("varrock", "jeff", 39995, "Mirror");
+		// Varrock - Bob
+		addObject("varrock", "bob", 39981, "Large table");
+		addObject("varrock", "bob", 39982, "Grandfather Clock");
+		addObject("varrock", "bob", 39985, "Bookcase");
+		addObject("varrock", "bob", 39983, "Cabinet");
+		addObject("varrock", "bob", 39984, "Cabinet");
+		addObject("varrock", "bob", 39986, "Bookcase");
+		addObject("varrock", "bob", 39987, "Wardrobe");
+		addObject("varrock", "bob", 39988, "Drawers");
+
+		// Hosidius - Mariah
+		addObject("hosidius", "mariah", 40002, "Table");
+		addObject("hosidius", "mariah", 40289, "Hat stand");
+		addObject("hosidius", "mariah", 40287, "Sink");
+		addObject("hosidius", "mariah", 40288, "Cupboard");
+		addObject("hosidius", "mariah", 40003, "Shelves");
+		addObject("hosidius", "mariah", 40004, "Bed");
+		addObject("hosidius", "mariah", 40005, "Table");
+		addObject("hosidius", "mariah", 40006, "Small Table");
+		// Hosidius - Barbara
+		addObject("hosidius", "barbara", 40294, "Drawers");
+		addObject("hosidius", "barbara", 40012, "Table");
+		addObject("hosidius", "barbara", 40014, "Chair");
+		addObject("hosidius", "barbara", 40015, "Chair");
+		addObject("hosidius", "barbara", 40293, "Range");
+		addObject("hosidius", "barbara", 40013, "Bed");
+		addObject("hosidius", "barbara", 40011, "Grandfather Clock");
+		// Hosidius - Leela
+		addObject("hosidius", "leela", 40008, "Small Table");
+		addObject("hosidius", "leela", 40291, "Double Bed");
+		addObject("hosidius", "leela", 40007, "Small Table");
+		addObject("hosidius", "leela", 40290, "Sink");
+		addObject("hosidius", "leela", 40292, "Cupboard");
+		addObject("hosidius", "leela", 40010, "Mirror");
+		addObject("hosidius", "leela", 40009, "Table");
+	}
+
+	/**
+	 * Encodes the dataset in the format read by {@link FurnitureCostData}.
+	 */
+	static byte[] encode() throws IOException {
+		Map<String, Integer> names = new LinkedHashMap<>();
+		for (ContractNpc npc : ContractNpc.values()) {
+			names.putIfAbsent(npc.name(), names.size());
+		}
+		for (Cost cost : COSTS) {
+			names.putIfAbsent(cost.furniture, names.size());
+		}
+		for (GameObject object : OBJECTS) {
+			names.putIfAbsent(object.furniture, names.size());
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(FurnitureCostData.MAGIC);
+		out.writeByte(FurnitureCostData.VERSION);
+		out.writeShort(names.size());
+		for (String name : names.keySet()) {
+			out.writeUTF(name);
+		}
+
+		out.writeByte(ContractNpc.values().length);
+		for (ContractNpc npc : ContractNpc.values()) {
+			List<Cost> costs = new ArrayList<>();
+			for (Cost cost : COSTS) {
+				if (cost.npc == npc) {
+					costs.add(cost);
+				}
+			}
+			List<GameObject> objects = new ArrayList<>();
+			for (GameObject object : OBJECTS) {
+				if (object.npc == npc) {
+					objects.add(object);
+				}
+			}
+
+			out.writeShort(names.get(npc.name()));
+			out.writeByte(costs.size());
+			for (Cost cost : costs) {
+				out.writeShort(names.get(cost.furniture));
+				out.writeByte(cost.planks);
+				out.writeByte(cost.bars);
+				out.writeByte(cost.minTier.ordinal());
+			}
+			out.writeByte(objects.size());
+			for (GameObject object : objects) {
+				out.writeInt(object.id);
+				out.writeShort(names.get(object.furniture));
+			}
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	public static void main(String[] args) throws IOException {
+		Files.write(Paths.get(args[0]), encode());
+	}
+}
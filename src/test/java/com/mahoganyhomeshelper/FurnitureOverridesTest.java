@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Test;
+
+public class FurnitureOverridesTest {
+	@After
+	public void revert() {
+		FurnitureCostData.applyOverrides(null);
+	}
+
+	@Test
+	public void testParse() {
+		FurnitureOverrides overrides = FurnitureOverrides.parse(Arrays.asList(
+				"# Sarah's small table",
+				"",
+				"cost, Varrock, Sarah, Small table, 4, 1",
+				"cost,Varrock,Sarah,Chair,2,0,teak planks",
+				"cost,Varrock,Sarah,Bed,3,0,MAHOGANY_PLANK",
+				"object,varrock,sarah,40400,Small table"));
+		assertEquals(Arrays.asList(new FurnitureOverrides.Cost(ContractNpc.SARAH, "Small table", 4, 1, null),
+				new FurnitureOverrides.Cost(ContractNpc.SARAH, "Chair", 2, 0, PlankType.TEAK_PLANK),
+				new FurnitureOverrides.Cost(ContractNpc.SARAH, "Bed", 3, 0, PlankType.MAHOGANY_PLANK)),
+				overrides.getCosts());
+		assertEquals(Arrays.asList(new FurnitureOverrides.GameObject(ContractNpc.SARAH, 40400, "Small table")),
+				overrides.getObjects());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownNpc() {
+		FurnitureOverrides.parse(Arrays.asList("cost,Varrock,Jess,Table,3,0"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCostOutOfRange() {
+		FurnitureOverrides.parse(Arrays.asList("cost,Varrock,Sarah,Table,256,0"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownTier() {
+		FurnitureOverrides.parse(Arrays.asList("cost,Varrock,Sarah,Table,3,0,Gold Planks"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIdOutOfRange() {
+		FurnitureOverrides.parse(Arrays.asList("object,Varrock,Sarah,2000000000,Table"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingField() {
+		FurnitureOverrides.parse(Arrays.asList("object,Varrock,Sarah,Table"));
+	}
+
+	@Test
+	public void testApplyOverrides() {
+		int id = FurnitureCostData.getGameObjectIds(ContractNpc.SARAH)[0];
+		String name = FurnitureCostData.getFurnitureNameForGameObjectId(id);
+		int planks = ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK));
+		int cost = FurnitureCostData.getPlankCost(FurnitureCostData.getPackedCost(id));
+		int sameName = 0;
+		for (int other : FurnitureCostData.getGameObjectIds(ContractNpc.SARAH)) {
+			if (name.equals(FurnitureCostData.getFurnitureNameForGameObjectId(other))) {
+				sameName++;
+			}
+		}
+
+		FurnitureCostData.applyOverrides(FurnitureOverrides.parse(Arrays.asList(
+				"cost,Varrock,Sarah," + name + "," + (cost + 5) + ",0",
+				"object,Varrock,Sarah,40400," + name)));
+		assertEquals(cost + 5, FurnitureCostData.getPlankCost(FurnitureCostData.getPackedCost(id)));
+		assertEquals(name, FurnitureCostData.getFurnitureNameForGameObjectId(40400));
+		assertEquals(ContractNpc.SARAH.ordinal(),
+				FurnitureCostData.getOwnerOrdinal(FurnitureCostData.getPackedCost(40400)));
+		// Every hotspot with that name costs 5 more, plus the new hotspot
+		assertEquals(planks + 5 * sameName + cost + 5,
+				ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK)));
+
+		FurnitureCostData.applyOverrides(null);
+		assertEquals(cost, FurnitureCostData.getPlankCost(FurnitureCostData.getPackedCost(id)));
+		assertNull(FurnitureCostData.getFurnitureNameForGameObjectId(40400));
+		assertEquals(planks,
+				ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK)));
+	}
+
+	@Test
+	public void testApplyTierOverride() {
+		int id = FurnitureCostData.getGameObjectIds(ContractNpc.SARAH)[0];
+		String name = FurnitureCostData.getFurnitureNameForGameObjectId(id);
+		int packed = FurnitureCostData.getPackedCost(id);
+		int cost = FurnitureCostData.getPlankCost(packed);
+		int planks = ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK));
+		int mahogany = ContractRequirements.getPlanks(
+				ContractRequirements.get(ContractNpc.SARAH, PlankType.MAHOGANY_PLANK));
+		int sameName = 0;
+		for (int other : FurnitureCostData.getGameObjectIds(ContractNpc.SARAH)) {
+			if (name.equals(FurnitureCostData.getFurnitureNameForGameObjectId(other))) {
+				sameName++;
+			}
+		}
+
+		// Without a tier the shipped tier is kept
+		FurnitureCostData.applyOverrides(FurnitureOverrides.parse(Arrays.asList(
+				"cost,Varrock,Sarah," + name + "," + cost + "," + FurnitureCostData.getSteelBarCost(packed))));
+		assertEquals(FurnitureCostData.getMinTierOrdinal(packed),
+				FurnitureCostData.getMinTierOrdinal(FurnitureCostData.getPackedCost(id)));
+		assertEquals(planks,
+				ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK)));
+
+		// Only mahogany contracts ask for it now
+		FurnitureCostData.applyOverrides(FurnitureOverrides.parse(Arrays.asList(
+				"cost,Varrock,Sarah," + name + "," + cost + ",0,Mahogany Planks")));
+		assertEquals(PlankType.MAHOGANY_PLANK.ordinal(),
+				FurnitureCostData.getMinTierOrdinal(FurnitureCostData.getPackedCost(id)));
+		assertEquals(planks - cost * sameName,
+				ContractRequirements.getPlanks(ContractRequirements.get(ContractNpc.SARAH, PlankType.PLANK)));
+		assertEquals(mahogany, ContractRequirements.getPlanks(
+				ContractRequirements.get(ContractNpc.SARAH, PlankType.MAHOGANY_PLANK)));
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import net.runelite.api.Item;
+import net.runelite.api.ItemID;
+import org.junit.Test;
+
+public class PendingBuildTest {
+	private final PlankSack sack = new PlankSack();
+	private final SackLedger ledger = new SackLedger(sack);
+	private final ContractCostTable costs = ContractCostTable.build(ContractNpc.LEELA);
+	private final SupplySnapshot emptyInventory = new SupplySnapshot();
+
+	/** A hotspot of the contract that needs planks. */
+	private int hotspot() {
+		for (int id : FurnitureCostData.getGameObjectIds(ContractNpc.LEELA)) {
+			if (FurnitureCostData.getPlankCost(FurnitureCostData.getPackedCost(id)) > 0) {
+				return id;
+			}
+		}
+		throw new AssertionError("No hotspot needs planks");
+	}
+
+	/** A hotspot of any contract that needs steel bars, or planks and no steel bars. */
+	private static int hotspot(boolean steel) {
+		for (ContractNpc npc : ContractNpc.values()) {
+			for (int id : FurnitureCostData.getGameObjectIds(npc)) {
+				int cost = FurnitureCostData.getPackedCost(id);
+				boolean needsSteel = FurnitureCostData.getSteelBarCost(cost) > 0;
+				if (steel ? needsSteel : !needsSteel && FurnitureCostData.getPlankCost(cost) > 0) {
+					return id;
+				}
+			}
+		}
+		throw new AssertionError("No such hotspot");
+	}
+
+	private static SupplySnapshot inventory(int planks, int steelBars) {
+		SupplySnapshot inventory = new SupplySnapshot();
+		inventory.fill(new Item[]{new Item(ItemID.PLANK, planks), new Item(ItemID.STEEL_BAR, steelBars)});
+		return inventory;
+	}
+
+	private void fillSack() {
+		ledger.confirm(new int[]{PlankSack.CAPACITY, 0, 0, 0});
+		ledger.commit(0);
+	}
+
+	@Test
+	public void testConfirmedBuildIsCharged() {
+		fillSack();
+		int id = hotspot();
+		int plankCost = FurnitureCostData.getPlankCost(FurnitureCostData.getPackedCost(id));
+		PendingBuild build = new PendingBuild();
+		build.start(id, FurnitureCostData.getPackedCost(id), PlankType.PLANK, emptyInventory, 1);
+		assertTrue(build.isPending());
+		assertFalse(costs.isBuilt(costs.find(id)));
+
+		build.confirm(costs, ledger);
+		assertTrue(ledger.commit(2));
+		assertFalse(build.isPending());
+		assertTrue(costs.isBuilt(costs.find(id)));
+		assertEquals(PlankSack.CAPACITY - plankCost, sack.get(PlankType.PLANK));
+
+		// Built hotspots are not charged again
+		build.start(id, FurnitureCostData.getPackedCost(id), PlankType.PLANK, emptyInventory, 3);
+		build.confirm(costs, ledger);
+		assertFalse(ledger.commit(4));
+		assertEquals(PlankSack.CAPACITY - plankCost, sack.get(PlankType.PLANK));
+	}
+
+	@Test
+	public void testCancelledBuildExpires() {
+		fillSack();
+		int id = hotspot();
+		PendingBuild build = new PendingBuild();
+		build.start(id, FurnitureCostData.getPackedCost(id), PlankType.PLANK, emptyInventory, 1);
+		build.expire(1 + PendingBuild.TIMEOUT_TICKS);
+		assertTrue(build.isPending());
+		build.expire(2 + PendingBuild.TIMEOUT_TICKS);
+		assertFalse(build.isPending());
+
+		build.confirm(costs, ledger);
+		assertFalse(ledger.commit(3 + PendingBuild.TIMEOUT_TICKS));
+		assertFalse(costs.isBuilt(costs.find(id)));
+		assertEquals(PlankSack.CAPACITY, sack.get(PlankType.PLANK));
+	}
+
+	@Test
+	public void testUnloadedInventoryConfirmsNothing() {
+		PendingBuild build = new PendingBuild();
+		assertFalse(build.usedMaterials(emptyInventory));
+		build.start(hotspot(), FurnitureCostData.getPackedCost(hotspot()), PlankType.PLANK, emptyInventory, 1);
+		assertFalse(build.usedMaterials(emptyInventory));
+	}
+
+	@Test
+	public void testOnlyNeededMaterialsConfirm() {
+		int id = hotspot(false);
+		PendingBuild build = new PendingBuild();
+		build.start(id, FurnitureCostData.getPackedCost(id), PlankType.PLANK, inventory(10, 2), 1);
+		assertFalse(build.usedMaterials(inventory(10, 1)));
+		assertFalse(build.usedMaterials(inventory(11, 2)));
+		assertTrue(build.usedMaterials(inventory(6, 2)));
+
+		id = hotspot(true);
+		build.start(id, FurnitureCostData.getPackedCost(id), PlankType.PLANK, inventory(10, 2), 1);
+		assertTrue(build.usedMaterials(inventory(10, 1)));
+		assertFalse(build.usedMaterials(inventory(10, 2)));
+	}
+}
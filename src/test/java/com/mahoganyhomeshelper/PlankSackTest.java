@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PlankSackTest {
+	private static PlankSack sack(int plank, int oak, int teak, int mahogany) {
+		PlankSack sack = new PlankSack();
+		sack.clear();
+		sack.set(PlankType.PLANK, plank);
+		sack.set(PlankType.OAK_PLANK, oak);
+		sack.set(PlankType.TEAK_PLANK, teak);
+		sack.set(PlankType.MAHOGANY_PLANK, mahogany);
+		return sack;
+	}
+
+	private static void assertRejected(String value) {
+		PlankSack sack = sack(1, 2, 3, 4);
+		assertFalse(value, sack.decode(value));
+		assertFalse(value, sack.isKnown());
+		assertEquals(value, 0, sack.getTotal());
+	}
+
+	@Test
+	public void testEncoding() {
+		// One count per plank type, in PlankType order
+		assertEquals("1,2,3,4", sack(1, 2, 3, 4).encode());
+		assertEquals("0,0,0,0", sack(0, 0, 0, 0).encode());
+		assertEquals("0,0,0,28", sack(0, 0, 0, 28).encode());
+		assertEquals("", new PlankSack().encode());
+	}
+
+	@Test
+	public void testRoundTrip() {
+		PlankSack[] sacks = {sack(0, 0, 0, 0), sack(28, 0, 0, 0), sack(0, 0, 0, 28), sack(7, 7, 7, 7),
+				sack(1, 0, 12, 15)};
+		for (PlankSack sack : sacks) {
+			PlankSack decoded = new PlankSack();
+			assertTrue(decoded.decode(sack.encode()));
+			assertTrue(sack.encode(), decoded.contentEquals(sack));
+		}
+
+		PlankSack unknown = new PlankSack();
+		unknown.clear();
+		assertFalse(unknown.decode(new PlankSack().encode()));
+		assertTrue(unknown.contentEquals(new PlankSack()));
+	}
+
+	@Test
+	public void testDecodeRejects() {
+		assertRejected(null);
+		assertRejected("");
+		// Over capacity, in one count or in total
+		assertRejected("29,0,0,0");
+		assertRejected("0,0,0,1000");
+		assertRejected("10,10,9,0");
+		// Wrong number of counts
+		assertRejected("1,2,3");
+		assertRejected("1,2,3,4,5");
+		// Malformed
+		assertRejected("1,,2,3");
+		assertRejected("-1,0,0,0");
+		assertRejected(" 1,0,0,0");
+		assertRejected("1,0,0,0,");
+		assertRejected("1,0,0,x");
+	}
+
+	@Test
+	public void testSetClampsToCapacity() {
+		PlankSack sack = sack(0, 0, 0, 0);
+		sack.set(PlankType.TEAK_PLANK, 30);
+		assertEquals(PlankSack.CAPACITY, sack.get(PlankType.TEAK_PLANK));
+		sack.set(PlankType.OAK_PLANK, 5);
+		assertEquals(0, sack.get(PlankType.OAK_PLANK));
+
+		sack.set(PlankType.TEAK_PLANK, 20);
+		sack.set(PlankType.OAK_PLANK, 10);
+		assertEquals(8, sack.get(PlankType.OAK_PLANK));
+		assertEquals(PlankSack.CAPACITY, sack.getTotal());
+
+		sack.set(PlankType.OAK_PLANK, -3);
+		assertEquals(0, sack.get(PlankType.OAK_PLANK));
+	}
+
+	@Test
+	public void testAdd() {
+		PlankSack unknown = new PlankSack();
+		unknown.add(PlankType.PLANK, 5);
+		assertFalse(unknown.isKnown());
+		assertEquals(0, unknown.get(PlankType.PLANK));
+
+		PlankSack sack = sack(0, 0, 10, 10);
+		sack.add(PlankType.TEAK_PLANK, 20);
+		assertEquals(18, sack.get(PlankType.TEAK_PLANK));
+		sack.add(PlankType.MAHOGANY_PLANK, -15);
+		assertEquals(0, sack.get(PlankType.MAHOGANY_PLANK));
+	}
+
+	@Test
+	public void testFillRemaining() {
+		PlankSack unknown = new PlankSack();
+		unknown.fillRemaining(PlankType.OAK_PLANK);
+		assertTrue(unknown.isKnown());
+		assertEquals(PlankSack.CAPACITY, unknown.get(PlankType.OAK_PLANK));
+
+		PlankSack sack = sack(0, 5, 3, 0);
+		sack.fillRemaining(PlankType.MAHOGANY_PLANK);
+		assertEquals(20, sack.get(PlankType.MAHOGANY_PLANK));
+		assertEquals(5, sack.get(PlankType.OAK_PLANK));
+		assertEquals(PlankSack.CAPACITY, sack.getTotal());
+
+		sack.fillRemaining(PlankType.PLANK);
+		assertEquals(0, sack.get(PlankType.PLANK));
+	}
+
+	@Test
+	public void testContentEquals() {
+		PlankSack unknown = new PlankSack();
+		PlankSack empty = sack(0, 0, 0, 0);
+		assertFalse(unknown.contentEquals(empty));
+		assertTrue(unknown.contentEquals(new PlankSack()));
+		assertTrue(sack(1, 2, 3, 4).contentEquals(sack(1, 2, 3, 4)));
+		assertFalse(sack(1, 2, 3, 4).contentEquals(sack(4, 3, 2, 1)));
+
+		PlankSack copy = new PlankSack();
+		copy.copyFrom(sack(1, 2, 3, 4));
+		assertTrue(copy.contentEquals(sack(1, 2, 3, 4)));
+
+		copy.reset();
+		assertTrue(copy.contentEquals(unknown));
+		copy.clear();
+		assertTrue(copy.contentEquals(empty));
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.zip.CRC32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginStateFileTest {
+	private static final PluginStateFile.Record RECORD = PluginStateFile.Record.CONTRACT;
+	private static final int PAYLOAD_SIZE = 96;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+	private PluginStateFile stateFile;
+
+	@Before
+	public void open() throws IOException {
+		file = new File(folder.getRoot(), "test.state");
+		stateFile = new PluginStateFile(file);
+		assertTrue(stateFile.open());
+	}
+
+	@After
+	public void close() {
+		stateFile.close();
+	}
+
+	private void reopen() {
+		stateFile.close();
+		stateFile = new PluginStateFile(file);
+		assertTrue(stateFile.open());
+	}
+
+	private int readSequence(int slot) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			raf.seek(PluginStateFile.slotOffset(RECORD, slot));
+			return raf.readInt();
+		}
+	}
+
+	/**
+	 * Rewrites the sequence number of a slot, with a matching CRC.
+	 */
+	private void writeSequence(int slot, int sequence) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			int offset = PluginStateFile.slotOffset(RECORD, slot);
+			byte[] payload = new byte[PAYLOAD_SIZE];
+			raf.seek(offset + 8);
+			raf.readFully(payload);
+			CRC32 crc = new CRC32();
+			crc.update(new byte[]{(byte) (sequence >>> 24), (byte) (sequence >>> 16), (byte) (sequence >>> 8),
+					(byte) sequence});
+			crc.update(payload);
+			raf.seek(offset);
+			raf.writeInt(sequence);
+			raf.writeInt((int) crc.getValue());
+		}
+	}
+
+	private void writeByte(long position, int value) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(position);
+			raf.write(value);
+		}
+	}
+
+	@Test
+	public void testRoundTrip() {
+		assertNull(stateFile.readStrings(RECORD, 3));
+		stateFile.writeStrings(RECORD, "profile", null, "");
+		assertArrayEquals(new String[]{"profile", null, ""}, stateFile.readStrings(RECORD, 3));
+		reopen();
+		assertArrayEquals(new String[]{"profile", null, ""}, stateFile.readStrings(RECORD, 3));
+		assertNull(stateFile.readStrings(PluginStateFile.Record.MARKERS, 2));
+	}
+
+	@Test
+	public void testSlotRotation() throws IOException {
+		stateFile.writeStrings(RECORD, "a");
+		stateFile.writeStrings(RECORD, "b");
+		stateFile.writeStrings(RECORD, "c");
+		stateFile.close();
+		assertEquals(3, readSequence(0));
+		assertEquals(2, readSequence(1));
+		reopen();
+		assertEquals("c", stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	@Test
+	public void testSequenceWraparound() throws IOException {
+		stateFile.writeStrings(RECORD, "old");
+		stateFile.writeStrings(RECORD, "new");
+		stateFile.close();
+		writeSequence(0, -2);
+		writeSequence(1, -1);
+		reopen();
+		assertEquals("new", stateFile.readStrings(RECORD, 1)[0]);
+
+		// The sequence skips 0, which marks an unwritten slot, and still wins
+		stateFile.writeStrings(RECORD, "wrapped");
+		stateFile.close();
+		assertEquals(1, readSequence(0));
+		assertEquals(-1, readSequence(1));
+		reopen();
+		assertEquals("wrapped", stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	@Test
+	public void testCorruptSlotFallsBack() throws IOException {
+		stateFile.writeStrings(RECORD, "old");
+		stateFile.writeStrings(RECORD, "new");
+		stateFile.close();
+		writeByte(PluginStateFile.slotOffset(RECORD, 1) + 8 + 1, 'x');
+		reopen();
+		assertEquals("old", stateFile.readStrings(RECORD, 1)[0]);
+
+		// The next write replaces the damaged slot
+		stateFile.writeStrings(RECORD, "newer");
+		assertEquals("newer", stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	@Test
+	public void testTornWriteFallsBack() throws IOException {
+		stateFile.writeStrings(RECORD, "old");
+		stateFile.writeStrings(RECORD, "new");
+		stateFile.close();
+		// A write cut short after invalidating the slot
+		writeSequence(1, 0);
+		reopen();
+		assertEquals("old", stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	@Test
+	public void testBothSlotsCorrupt() throws IOException {
+		stateFile.writeStrings(RECORD, "old");
+		stateFile.writeStrings(RECORD, "new");
+		stateFile.close();
+		writeByte(PluginStateFile.slotOffset(RECORD, 0) + 4, 0);
+		writeByte(PluginStateFile.slotOffset(RECORD, 1) + 4, 0);
+		reopen();
+		assertNull(stateFile.readStrings(RECORD, 1));
+	}
+
+	@Test
+	public void testRecordLimit() {
+		String fits = repeat('a', PAYLOAD_SIZE - 1);
+		stateFile.writeStrings(RECORD, fits);
+		assertEquals(fits, stateFile.readStrings(RECORD, 1)[0]);
+
+		// One byte too long for the record; the previous value is kept
+		stateFile.writeStrings(RECORD, repeat('b', PAYLOAD_SIZE));
+		assertEquals(fits, stateFile.readStrings(RECORD, 1)[0]);
+		stateFile.writeStrings(RECORD, repeat('b', 47), repeat('b', 48));
+		assertEquals(fits, stateFile.readStrings(RECORD, 1)[0]);
+		stateFile.writeStrings(RECORD, repeat('c', 47), repeat('d', 47));
+		assertArrayEquals(new String[]{repeat('c', 47), repeat('d', 47)}, stateFile.readStrings(RECORD, 2));
+
+		// Two bytes per character in UTF-8
+		String twoByte = repeat('\u00e9', (PAYLOAD_SIZE - 1) / 2);
+		stateFile.writeStrings(RECORD, twoByte);
+		assertEquals(twoByte, stateFile.readStrings(RECORD, 1)[0]);
+		stateFile.writeStrings(RECORD, repeat('\u00e9', PAYLOAD_SIZE / 2));
+		assertEquals(twoByte, stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	@Test
+	public void testUnknownLayoutIsReset() throws IOException {
+		stateFile.writeStrings(RECORD, "value");
+		stateFile.close();
+		// Version
+		writeByte(7, 0x7f);
+		reopen();
+		assertNull(stateFile.readStrings(RECORD, 1));
+	}
+
+	@Test
+	public void testLockedByAnotherClient() {
+		PluginStateFile other = new PluginStateFile(file);
+		assertFalse(other.open());
+		other.writeStrings(RECORD, "ignored");
+		assertNull(stateFile.readStrings(RECORD, 1));
+
+		stateFile.close();
+		assertTrue(other.open());
+		other.close();
+	}
+
+	@Test
+	public void testWriteAfterClose() {
+		stateFile.writeStrings(RECORD, "kept");
+		stateFile.close();
+		stateFile.writeStrings(RECORD, "dropped");
+		reopen();
+		assertEquals("kept", stateFile.readStrings(RECORD, 1)[0]);
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder builder = new StringBuilder(count);
+		for (int i = 0; i < count; i++) {
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SackLedgerTest {
+	private static SackLedger confirmedLedger(PlankSack sack) {
+		SackLedger ledger = new SackLedger(sack);
+		ledger.confirm(new int[]{0, 0, 10, 0});
+		assertTrue(ledger.commit(0));
+		assertEquals(SackLedger.Confidence.CONFIRMED, ledger.getConfidence());
+		return ledger;
+	}
+
+	@Test
+	public void testDeductIsEstimated() {
+		PlankSack sack = new PlankSack();
+		SackLedger ledger = confirmedLedger(sack);
+		ledger.deduct(PlankType.TEAK_PLANK, 4);
+		assertTrue(ledger.commit(1));
+		assertEquals(6, sack.get(PlankType.TEAK_PLANK));
+		assertEquals(SackLedger.Confidence.ESTIMATED, ledger.getConfidence());
+	}
+
+	@Test
+	public void testExpiredTransferIsUncertain() {
+		PlankSack sack = new PlankSack();
+		SackLedger ledger = confirmedLedger(sack);
+		ledger.openTransfer(new SupplySnapshot(), 1);
+		assertFalse(ledger.commit(1 + SackLedger.TRANSFER_TIMEOUT_TICKS));
+		assertEquals(SackLedger.Confidence.CONFIRMED, ledger.getConfidence());
+		assertFalse(ledger.commit(2 + SackLedger.TRANSFER_TIMEOUT_TICKS));
+		assertEquals(SackLedger.Confidence.UNCERTAIN, ledger.getConfidence());
+	}
+
+	@Test
+	public void testExpiredTransferLimitsStagedChange() {
+		PlankSack sack = new PlankSack();
+		SackLedger ledger = confirmedLedger(sack);
+		ledger.openTransfer(new SupplySnapshot(), 1);
+		int tick = 2 + SackLedger.TRANSFER_TIMEOUT_TICKS;
+		ledger.deduct(PlankType.TEAK_PLANK, 4);
+		assertTrue(ledger.commit(tick));
+		assertEquals(6, sack.get(PlankType.TEAK_PLANK));
+		assertEquals(SackLedger.Confidence.UNCERTAIN, ledger.getConfidence());
+
+		// Later estimates cannot raise the confidence again, only a sack check can
+		ledger.deduct(PlankType.TEAK_PLANK, 1);
+		assertTrue(ledger.commit(tick + 1));
+		assertEquals(SackLedger.Confidence.UNCERTAIN, ledger.getConfidence());
+		ledger.confirm(new int[]{0, 0, 5, 0});
+		assertFalse(ledger.commit(tick + 2));
+		assertEquals(SackLedger.Confidence.CONFIRMED, ledger.getConfidence());
+	}
+}
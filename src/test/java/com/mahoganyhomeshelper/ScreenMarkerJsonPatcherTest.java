@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, Bloopser <https://github.com/Bloopser>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.mahoganyhomeshelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ScreenMarkerJsonPatcherTest {
+	/** A marker as the Screen Marker plugin stores it, with the visible flag as {@code %s}. */
+	private static final String MARKER = "{\"id\":%d,\"name\":\"Marker \\u003c%d\\u003e\",\"borderThickness\":3,"
+			+ "\"color\":{\"value\":-16711936,\"falpha\":0.0},\"fill\":{\"value\":1073807104,\"falpha\":0.0},"
+			+ "\"visible\":%s,\"labelled\":false}";
+
+	private final List<String> patched = new ArrayList<>();
+
+	private static String marker(long id, boolean visible) {
+		return String.format(MARKER, id, id, visible);
+	}
+
+	private String patchList(String json, long id, boolean visible) {
+		return ScreenMarkerJsonPatcher.patchMarkerList(json, Collections.singletonMap(id, visible),
+				(group, markerId, value) -> patched.add(group + "/" + markerId + "=" + value));
+	}
+
+	@Test
+	public void testOnlyVisibleChanges() {
+		String json = "[" + marker(1, true) + "," + marker(1710000000000L, true) + "," + marker(3, false) + "]";
+		String expected = "[" + marker(1, true) + "," + marker(1710000000000L, false) + "," + marker(3, false) + "]";
+		assertEquals(expected, patchList(json, 1710000000000L, false));
+		assertEquals(Collections.singletonList("null/1710000000000=false"), patched);
+	}
+
+	@Test
+	public void testNothingChanged() {
+		String json = "[" + marker(1, true) + "]";
+		assertNull(patchList(json, 1, true));
+		assertNull(patchList(json, 2, false));
+		assertTrue(patched.isEmpty());
+	}
+
+	@Test
+	public void testVisibleBeforeId() {
+		String json = "[{\"visible\":true,\"name\":\"a\",\"id\":7,\"labelled\":true}]";
+		assertEquals("[{\"visible\":false,\"name\":\"a\",\"id\":7,\"labelled\":true}]", patchList(json, 7, false));
+		assertEquals(Collections.singletonList("null/7=false"), patched);
+	}
+
+	@Test
+	public void testVisibleAfterId() {
+		String json = "[{\"name\":\"a\",\"id\":7,\"labelled\":true,\"visible\":false}]";
+		assertEquals("[{\"name\":\"a\",\"id\":7,\"labelled\":true,\"visible\":true}]", patchList(json, 7, true));
+	}
+
+	@Test
+	public void testMissingVisible() {
+		// Without a stored flag there is nothing to rewrite
+		String json = "[{\"id\":7,\"name\":\"a\"}]";
+		assertNull(patchList(json, 7, false));
+		assertTrue(patched.isEmpty());
+
+		// A visible flag without an id is copied as is
+		json = "[{\"visible\":true,\"name\":\"a\"},{\"id\":7,\"visible\":true}]";
+		assertEquals("[{\"visible\":true,\"name\":\"a\"},{\"id\":7,\"visible\":false}]", patchList(json, 7, false));
+	}
+
+	@Test
+	public void testUnknownNestedValues() {
+		String extra = "\"extra\":{\"list\":[1,2.50,-0,1e3,null,true,\"\\u003cb\\u003e\\u0026\\u003d\\u0027\"],"
+				+ "\"nested\":{\"a\":{\"b\":[]}},\"empty\":{}}";
+		String json = "[{\"id\":7," + extra + ",\"visible\":true,\"tail\":[[],[{}]]},9,\"x\",null,[1]]";
+		String expected = "[{\"id\":7," + extra + ",\"visible\":false,\"tail\":[[],[{}]]},9,\"x\",null,[1]]";
+		assertEquals(expected, patchList(json, 7, false));
+
+		// The same values deferred behind a visible flag that comes first
+		json = "[{\"visible\":true," + extra + ",\"id\":7}]";
+		assertEquals("[{\"visible\":false," + extra + ",\"id\":7}]", patchList(json, 7, false));
+	}
+
+	@Test
+	public void testGroups() {
+		String json = "{\"Mahogany\":[" + marker(1, true) + "],\"Other\":[" + marker(1, true) + "],\"Empty\":[]}";
+		Map<String, Map<Long, Boolean>> changes = new HashMap<>();
+		changes.put("Other", Collections.singletonMap(1L, false));
+		String patchedJson = ScreenMarkerJsonPatcher.patchMarkerGroups(json, changes,
+				(group, markerId, value) -> patched.add(group + "/" + markerId + "=" + value));
+		assertEquals("{\"Mahogany\":[" + marker(1, true) + "],\"Other\":[" + marker(1, false) + "],\"Empty\":[]}",
+				patchedJson);
+		assertEquals(Collections.singletonList("Other/1=false"), patched);
+	}
+
+	@Test
+	public void testMalformedInput() {
+		String[] malformed = {
+				null,
+				"",
+				"[" + marker(7, true),
+				"[" + marker(7, true) + "]]",
+				"[" + marker(7, true) + "] []",
+				"[{id:7,visible:true}]",
+				"[{\"id\":7,\"visible\":true,}]",
+				"[{\"id\":99999999999999999999,\"visible\":true}]",
+				"[{\"id\":7.5,\"visible\":true}]",
+				"{\"id\":7,\"visible\":true}",
+				"not json",
+		};
+		for (String json : malformed) {
+			assertNull(json, patchList(json, 7, false));
+		}
+		assertNull(ScreenMarkerJsonPatcher.patchMarkerGroups("[" + marker(7, true) + "]",
+				Collections.singletonMap("a", Collections.singletonMap(7L, false)), (group, markerId, value) -> {
+				}));
+	}
+}